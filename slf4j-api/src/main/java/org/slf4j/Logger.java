@@ -98,7 +98,8 @@ public interface Logger {
 
     /**
      * <p>Make a new {@link LoggingEventBuilder} instance as appropriate for this logger implementation.
-     * This default implementation always returns a new instance of {@link DefaultLoggingEventBuilder}.</p>
+     * This default implementation returns a new instance of {@link DefaultLoggingEventBuilder}, or a
+     * recycled one if recycling is enabled, see {@link DefaultLoggingEventBuilder#obtain(Logger, Level)}.</p>
      * <p></p>
      * <p>This method is intended to be used by logging systems implementing the SLF4J API and <b>not</b>
      * by end users.</p>
@@ -112,7 +113,7 @@ public interface Logger {
      * @since 2.0
      */
     default public LoggingEventBuilder makeLoggingEventBuilder(Level level) {
-        return new DefaultLoggingEventBuilder(this, level);
+        return DefaultLoggingEventBuilder.obtain(this, level);
     }
 
     /**
@@ -230,6 +231,108 @@ public interface Logger {
      */
     public void trace(String msg, Throwable t);
 
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and <code>int</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void trace(String format, int arg) {
+        if (isTraceEnabled()) {
+            PrimitiveArguments.builder(this, TRACE).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and <code>long</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void trace(String format, long arg) {
+        if (isTraceEnabled()) {
+            PrimitiveArguments.builder(this, TRACE).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and <code>float</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void trace(String format, float arg) {
+        if (isTraceEnabled()) {
+            PrimitiveArguments.builder(this, TRACE).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and <code>double</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void trace(String format, double arg) {
+        if (isTraceEnabled()) {
+            PrimitiveArguments.builder(this, TRACE).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and <code>boolean</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void trace(String format, boolean arg) {
+        if (isTraceEnabled()) {
+            PrimitiveArguments.builder(this, TRACE).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and <code>char</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void trace(String format, char arg) {
+        if (isTraceEnabled()) {
+            PrimitiveArguments.builder(this, TRACE).addArgument(arg).log(format);
+        }
+    }
+
     /**
      * Similar to {@link #isTraceEnabled()} method except that the
      * marker data is also taken into account.
@@ -378,6 +481,108 @@ public interface Logger {
      */
     public void debug(String msg, Throwable t);
 
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>int</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void debug(String format, int arg) {
+        if (isDebugEnabled()) {
+            PrimitiveArguments.builder(this, DEBUG).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>long</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void debug(String format, long arg) {
+        if (isDebugEnabled()) {
+            PrimitiveArguments.builder(this, DEBUG).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>float</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void debug(String format, float arg) {
+        if (isDebugEnabled()) {
+            PrimitiveArguments.builder(this, DEBUG).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>double</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void debug(String format, double arg) {
+        if (isDebugEnabled()) {
+            PrimitiveArguments.builder(this, DEBUG).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>boolean</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void debug(String format, boolean arg) {
+        if (isDebugEnabled()) {
+            PrimitiveArguments.builder(this, DEBUG).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>char</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void debug(String format, char arg) {
+        if (isDebugEnabled()) {
+            PrimitiveArguments.builder(this, DEBUG).addArgument(arg).log(format);
+        }
+    }
+
     /**
      * Similar to {@link #isDebugEnabled()} method except that the
      * marker data is also taken into account.
@@ -519,6 +724,108 @@ public interface Logger {
      */
     public void info(String msg, Throwable t);
 
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>int</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void info(String format, int arg) {
+        if (isInfoEnabled()) {
+            PrimitiveArguments.builder(this, INFO).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>long</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void info(String format, long arg) {
+        if (isInfoEnabled()) {
+            PrimitiveArguments.builder(this, INFO).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>float</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void info(String format, float arg) {
+        if (isInfoEnabled()) {
+            PrimitiveArguments.builder(this, INFO).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>double</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void info(String format, double arg) {
+        if (isInfoEnabled()) {
+            PrimitiveArguments.builder(this, INFO).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>boolean</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void info(String format, boolean arg) {
+        if (isInfoEnabled()) {
+            PrimitiveArguments.builder(this, INFO).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>char</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void info(String format, char arg) {
+        if (isInfoEnabled()) {
+            PrimitiveArguments.builder(this, INFO).addArgument(arg).log(format);
+        }
+    }
+
     /**
      * Similar to {@link #isInfoEnabled()} method except that the marker
      * data is also taken into consideration.
@@ -660,6 +967,108 @@ public interface Logger {
      */
     public void warn(String msg, Throwable t);
 
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>int</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void warn(String format, int arg) {
+        if (isWarnEnabled()) {
+            PrimitiveArguments.builder(this, WARN).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>long</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void warn(String format, long arg) {
+        if (isWarnEnabled()) {
+            PrimitiveArguments.builder(this, WARN).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>float</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void warn(String format, float arg) {
+        if (isWarnEnabled()) {
+            PrimitiveArguments.builder(this, WARN).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>double</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void warn(String format, double arg) {
+        if (isWarnEnabled()) {
+            PrimitiveArguments.builder(this, WARN).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>boolean</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void warn(String format, boolean arg) {
+        if (isWarnEnabled()) {
+            PrimitiveArguments.builder(this, WARN).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>char</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void warn(String format, char arg) {
+        if (isWarnEnabled()) {
+            PrimitiveArguments.builder(this, WARN).addArgument(arg).log(format);
+        }
+    }
+
     /**
      * Similar to {@link #isWarnEnabled()} method except that the marker
      * data is also taken into consideration.
@@ -801,6 +1210,108 @@ public interface Logger {
      */
     public void error(String msg, Throwable t);
 
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>int</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void error(String format, int arg) {
+        if (isErrorEnabled()) {
+            PrimitiveArguments.builder(this, ERROR).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>long</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void error(String format, long arg) {
+        if (isErrorEnabled()) {
+            PrimitiveArguments.builder(this, ERROR).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>float</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void error(String format, float arg) {
+        if (isErrorEnabled()) {
+            PrimitiveArguments.builder(this, ERROR).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>double</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void error(String format, double arg) {
+        if (isErrorEnabled()) {
+            PrimitiveArguments.builder(this, ERROR).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>boolean</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void error(String format, boolean arg) {
+        if (isErrorEnabled()) {
+            PrimitiveArguments.builder(this, ERROR).addArgument(arg).log(format);
+        }
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>char</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger is disabled
+     * for the ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0.17
+     */
+    default public void error(String format, char arg) {
+        if (isErrorEnabled()) {
+            PrimitiveArguments.builder(this, ERROR).addArgument(arg).log(format);
+        }
+    }
+
     /**
      * Similar to {@link #isErrorEnabled()} method except that the
      * marker data is also taken into consideration.
@@ -39,14 +39,21 @@ import java.util.List;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+import org.slf4j.event.SubstituteEventQueue;
 import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.helpers.BasicMDCAdapter;
+import org.slf4j.helpers.CallingClassFinder;
 import org.slf4j.helpers.NOP_FallbackServiceProvider;
 import org.slf4j.helpers.Reporter;
 import org.slf4j.helpers.SubstituteLogger;
 import org.slf4j.helpers.SubstituteServiceProvider;
 import org.slf4j.helpers.Util;
+import org.slf4j.spi.LoggingEventBatchAware;
+import org.slf4j.spi.MDCAdapter;
 import org.slf4j.spi.SLF4JServiceProvider;
 
 /**
@@ -93,6 +100,31 @@ public final class LoggerFactory {
      */
     static final public String PROVIDER_PROPERTY_KEY = "slf4j.provider";
 
+    /**
+     * System property controlling the search of the class path for bindings
+     * targeting slf4j-api 1.7.x or earlier, which takes place when no provider
+     * is found and whose only purpose is to warn about such bindings. Listing
+     * these bindings can be slow with large class paths.
+     *
+     * <p>With the value {@value #STATIC_BINDER_SCAN_BACKGROUND}, the search
+     * runs on a background daemon thread; with the value
+     * {@value #STATIC_BINDER_SCAN_OFF}, it is skipped. Otherwise, it runs on
+     * the initializing thread, once loggers have been bound.</p>
+     *
+     * @since 2.0.17
+     */
+    static final public String STATIC_BINDER_SCAN_PROPERTY_KEY = "slf4j.staticBinderScan";
+
+    /**
+     * @since 2.0.17
+     */
+    static final public String STATIC_BINDER_SCAN_BACKGROUND = "background";
+
+    /**
+     * @since 2.0.17
+     */
+    static final public String STATIC_BINDER_SCAN_OFF = "off";
+
     static final int UNINITIALIZED = 0;
     static final int ONGOING_INITIALIZATION = 1;
     static final int FAILED_INITIALIZATION = 2;
@@ -111,6 +143,65 @@ public final class LoggerFactory {
 
     static volatile SLF4JServiceProvider PROVIDER;
 
+    /**
+     * System property which, when set to true, makes initialization, that is
+     * the discovery and initialization of the provider, run on a dedicated
+     * thread. Until initialization completes, {@link #getLogger(String)}
+     * returns substitute loggers right away, whose events are replayed and
+     * which delegate to the loggers of the provider once initialization
+     * completes.
+     *
+     * <p>Note that the {@link MDC} and {@link MarkerFactory} classes, if
+     * initialized in the meantime, are bound to the provider on completion
+     * only; MDC values put beforehand are lost.</p>
+     *
+     * @since 2.0.17
+     */
+    static final public String BACKGROUND_INITIALIZATION_KEY = "slf4j.backgroundInitialization";
+
+    // not final so that tests can toggle background initialization
+    static boolean BACKGROUND_INITIALIZATION = Util.safeGetBooleanSystemProperty(BACKGROUND_INITIALIZATION_KEY);
+
+    // completed once the last initialization started in the background is over
+    private static volatile CountDownLatch BACKGROUND_INITIALIZATION_DONE = new CountDownLatch(0);
+
+    // loggers returned by getLogger(Class), per class
+    private static final ClassValue<CachedLogger> LOGGER_BY_CLASS = new ClassValue<CachedLogger>() {
+        @Override
+        protected CachedLogger computeValue(Class<?> type) {
+            return new CachedLogger();
+        }
+    };
+
+    /**
+     * The logger returned for a class by the logger factory in use when it was
+     * obtained. A change of factory, on re-initialization for instance,
+     * causes a new logger to be obtained.
+     */
+    private static final class CachedLogger {
+
+        private static final class Entry {
+            final ILoggerFactory factory;
+            final Logger logger;
+
+            Entry(ILoggerFactory factory, Logger logger) {
+                this.factory = factory;
+                this.logger = logger;
+            }
+        }
+
+        private volatile Entry entry;
+
+        Logger get(ILoggerFactory factory, Class<?> clazz) {
+            Entry e = entry;
+            if (e == null || e.factory != factory) {
+                e = new Entry(factory, factory.getLogger(clazz.getName()));
+                entry = e;
+            }
+            return e.logger;
+        }
+    }
+
     // Package access for tests
     static List<SLF4JServiceProvider> findServiceProviders() {
         List<SLF4JServiceProvider> providerList = new ArrayList<>();
@@ -182,6 +273,64 @@ public final class LoggerFactory {
         INITIALIZATION_STATE = UNINITIALIZED;
     }
 
+    // Returns false if no thread could be started.
+    private static boolean startBackgroundInitialization() {
+        final CountDownLatch done = new CountDownLatch(1);
+        Runnable initialization = () -> {
+            try {
+                performInitialization();
+                rebindMDCAndMarkerFactory();
+            } catch (Throwable t) {
+                // bind() reports the failures it catches itself
+                if (INITIALIZATION_STATE == ONGOING_INITIALIZATION) {
+                    failedBinding(t);
+                }
+            } finally {
+                done.countDown();
+            }
+        };
+        try {
+            Thread initializer = new Thread(initialization, "slf4j-initialization");
+            initializer.setDaemon(true);
+            BACKGROUND_INITIALIZATION_DONE = done;
+            initializer.start();
+            return true;
+        } catch (SecurityException e) {
+            done.countDown();
+            return false;
+        }
+    }
+
+    // MDC and MarkerFactory bind to the provider in their static initializers, which
+    // obtain the substitute provider while initialization is in progress. Both fields are
+    // volatile, so that other threads see the rebinding. Each thread moves the MDC context
+    // it put in the substitute adapter to the actual one on its next MDC call.
+    private static void rebindMDCAndMarkerFactory() {
+        if (INITIALIZATION_STATE == FAILED_INITIALIZATION) {
+            return;
+        }
+        SLF4JServiceProvider provider = getProvider();
+        MDCAdapter substituteMDCAdapter = SUBST_PROVIDER.getMDCAdapter();
+        if (MDC.mdcAdapter == substituteMDCAdapter) {
+            MDC.substituteMDCAdapter = (BasicMDCAdapter) substituteMDCAdapter;
+            MDC.mdcAdapter = provider.getMDCAdapter();
+        }
+        if (MarkerFactory.MARKER_FACTORY == SUBST_PROVIDER.getMarkerFactory()) {
+            MarkerFactory.MARKER_FACTORY = provider.getMarkerFactory();
+        }
+    }
+
+    /**
+     * Waits for the completion of an initialization running in the
+     * background, see {@link #BACKGROUND_INITIALIZATION_KEY}. Returns at once
+     * otherwise.
+     *
+     * @return false if the timeout elapsed first
+     */
+    static boolean awaitBackgroundInitialization(long timeout, TimeUnit unit) throws InterruptedException {
+        return BACKGROUND_INITIALIZATION_DONE.await(timeout, unit);
+    }
+
     private final static void performInitialization() {
         bind();
         if (INITIALIZATION_STATE == SUCCESSFUL_INITIALIZATION) {
@@ -204,11 +353,12 @@ public final class LoggerFactory {
                 Reporter.warn("No SLF4J providers were found.");
                 Reporter.warn("Defaulting to no-operation (NOP) logger implementation");
                 Reporter.warn("See " + NO_PROVIDERS_URL + " for further details.");
-
-                Set<URL> staticLoggerBinderPathSet = findPossibleStaticLoggerBinderPathSet();
-                reportIgnoredStaticLoggerBinders(staticLoggerBinderPathSet);
             }
             postBindCleanUp();
+            if (INITIALIZATION_STATE == NOP_FALLBACK_INITIALIZATION) {
+                // diagnostics only, after loggers are bound
+                scanForIgnoredStaticLoggerBinders();
+            }
         } catch (Exception e) {
             failedBinding(e);
             throw new IllegalStateException("Unexpected initialization failure", e);
@@ -238,6 +388,28 @@ public final class LoggerFactory {
         }
     }
 
+    private static void scanForIgnoredStaticLoggerBinders() {
+        String mode = Util.safeGetSystemProperty(STATIC_BINDER_SCAN_PROPERTY_KEY);
+        if (STATIC_BINDER_SCAN_OFF.equalsIgnoreCase(mode)) {
+            return;
+        }
+        if (STATIC_BINDER_SCAN_BACKGROUND.equalsIgnoreCase(mode)) {
+            try {
+                Thread scanner = new Thread(LoggerFactory::reportIgnoredStaticLoggerBinders, "slf4j-static-binder-scan");
+                scanner.setDaemon(true);
+                scanner.start();
+                return;
+            } catch (SecurityException e) {
+                // fall back to scanning on the current thread
+            }
+        }
+        reportIgnoredStaticLoggerBinders();
+    }
+
+    private static void reportIgnoredStaticLoggerBinders() {
+        reportIgnoredStaticLoggerBinders(findPossibleStaticLoggerBinderPathSet());
+    }
+
     private static void reportIgnoredStaticLoggerBinders(Set<URL> staticLoggerBinderPathSet) {
         if (staticLoggerBinderPathSet.isEmpty()) {
             return;
@@ -285,15 +457,13 @@ public final class LoggerFactory {
         SUBST_PROVIDER.getSubstituteLoggerFactory().clear();
     }
 
+    // Without locking: loggers the iteration misses are fixed by SubstituteLoggerFactory itself.
     private static void fixSubstituteLoggers() {
-        synchronized (SUBST_PROVIDER) {
-            SUBST_PROVIDER.getSubstituteLoggerFactory().postInitialization();
-            for (SubstituteLogger substLogger : SUBST_PROVIDER.getSubstituteLoggerFactory().getLoggers()) {
-                Logger logger = getLogger(substLogger.getName());
-                substLogger.setDelegate(logger);
-            }
+        ILoggerFactory loggerFactory = getILoggerFactory();
+        SUBST_PROVIDER.getSubstituteLoggerFactory().postInitialization(loggerFactory);
+        for (SubstituteLogger substLogger : SUBST_PROVIDER.getSubstituteLoggerFactory().getLoggers()) {
+            substLogger.setDelegate(loggerFactory.getLogger(substLogger.getName()));
         }
-
     }
 
     static void failedBinding(Throwable t) {
@@ -307,21 +477,39 @@ public final class LoggerFactory {
         int count = 0;
         final int maxDrain = 128;
         List<SubstituteLoggingEvent> eventList = new ArrayList<>(maxDrain);
+
+        // backends able to log whole batches get the events of each drained chunk in one call
+        ILoggerFactory loggerFactory = getILoggerFactory();
+        LoggingEventBatchAware batchAware = loggerFactory instanceof LoggingEventBatchAware ? (LoggingEventBatchAware) loggerFactory : null;
+        List<SubstituteLoggingEvent> batch = batchAware == null ? null : new ArrayList<>(maxDrain);
+
         while (true) {
             int numDrained = queue.drainTo(eventList, maxDrain);
             if (numDrained == 0)
                 break;
             for (SubstituteLoggingEvent event : eventList) {
-                replaySingleEvent(event);
+                if (batch == null) {
+                    replaySingleEvent(event);
+                } else if (isReplayable(event)) {
+                    batch.add(event);
+                }
                 if (count++ == 0)
-                    emitReplayOrSubstituionWarning(event, queueSize);
+                    emitReplayOrSubstituionWarning(event, queueSize, batch != null);
+            }
+            if (batch != null && !batch.isEmpty()) {
+                replayBatch(batchAware, batch);
+                batch.clear();
             }
             eventList.clear();
         }
+        long droppedCount = SUBST_PROVIDER.getSubstituteLoggerFactory().getDroppedEventCount();
+        if (droppedCount > 0) {
+            emitDroppedEventsWarning(droppedCount);
+        }
     }
 
-    private static void emitReplayOrSubstituionWarning(SubstituteLoggingEvent event, int queueSize) {
-        if (event.getLogger().isDelegateEventAware()) {
+    private static void emitReplayOrSubstituionWarning(SubstituteLoggingEvent event, int queueSize, boolean batched) {
+        if (batched || event.getLogger().isDelegateEventAware()) {
             emitReplayWarning(queueSize);
         } else if (event.getLogger().isDelegateNOP()) {
             // nothing to do
@@ -330,6 +518,22 @@ public final class LoggerFactory {
         }
     }
 
+    private static boolean isReplayable(SubstituteLoggingEvent event) {
+        SubstituteLogger substLogger = event.getLogger();
+        if (substLogger.isDelegateNull()) {
+            throw new IllegalStateException("Delegate logger cannot be null at this state.");
+        }
+        return !substLogger.isDelegateNOP() && substLogger.isEnabledForLevel(event.getLevel());
+    }
+
+    private static void replayBatch(LoggingEventBatchAware batchAware, List<SubstituteLoggingEvent> batch) {
+        try {
+            batchAware.log(batch);
+        } catch (RuntimeException e) {
+            Reporter.error("Failed to replay a batch of " + batch.size() + " logging events", e);
+        }
+    }
+
     private static void replaySingleEvent(SubstituteLoggingEvent event) {
         if (event == null)
             return;
@@ -344,7 +548,11 @@ public final class LoggerFactory {
             // nothing to do
         } else if (substLogger.isDelegateEventAware()) {
             if(substLogger.isEnabledForLevel(event.getLevel())) {
-                substLogger.log(event);
+                try {
+                    substLogger.log(event);
+                } catch (RuntimeException e) {
+                    Reporter.error("Failed to replay logging event of logger [" + loggerName + "]", e);
+                }
             }
         } else {
             Reporter.warn(loggerName);
@@ -359,6 +567,12 @@ public final class LoggerFactory {
         Reporter.warn("See also " + SUBSTITUTE_LOGGER_URL);
     }
 
+    private static void emitDroppedEventsWarning(long droppedCount) {
+        Reporter.warn("A number (" + droppedCount + ") of logging calls during the initialization phase were not recorded");
+        Reporter.warn("as per the \"" + SubstituteEventQueue.OVERFLOW_POLICY_KEY + "\" and \"" + SubstituteEventQueue.CAPACITY_KEY
+                        + "\" system properties, and are lost.");
+    }
+
     private static void emitReplayWarning(int eventCount) {
         Reporter.warn("A number (" + eventCount + ") of logging calls during the initialization phase have been intercepted and are");
         Reporter.warn("now being replayed. These are subject to the filtering rules of the underlying logging system.");
@@ -444,6 +658,11 @@ public final class LoggerFactory {
      * true. By default, this property is not set and no warnings will be
      * printed even in case of a logger name mismatch.
      *
+     * <p>The logger obtained for a class is cached with the class, so that
+     * subsequent invocations for the same class return it without consulting
+     * the {@link ILoggerFactory} again, unless the factory in use has changed
+     * in the meantime.
+     *
      * @param clazz
      *            the returned logger will be named after clazz
      * @return logger
@@ -454,9 +673,9 @@ public final class LoggerFactory {
      *      logger name mismatch</a>
      */
     public static Logger getLogger(Class<?> clazz) {
-        Logger logger = getLogger(clazz.getName());
+        Logger logger = LOGGER_BY_CLASS.get(clazz).get(getILoggerFactory(), clazz);
         if (DETECT_LOGGER_NAME_MISMATCH) {
-            Class<?> autoComputedCallingClass = Util.getCallingClass();
+            Class<?> autoComputedCallingClass = CallingClassFinder.callerOf(LoggerFactory.class);
             if (autoComputedCallingClass != null && nonMatchingClasses(clazz, autoComputedCallingClass)) {
                 Reporter.warn(String.format("Detected logger name mismatch. Given name: \"%s\"; computed name: \"%s\".", logger.getName(),
                                 autoComputedCallingClass.getName()));
@@ -493,7 +712,9 @@ public final class LoggerFactory {
             synchronized (LoggerFactory.class) {
                 if (INITIALIZATION_STATE == UNINITIALIZED) {
                     INITIALIZATION_STATE = ONGOING_INITIALIZATION;
-                    performInitialization();
+                    if (!BACKGROUND_INITIALIZATION || !startBackgroundInitialization()) {
+                        performInitialization();
+                    }
                 }
             }
         }
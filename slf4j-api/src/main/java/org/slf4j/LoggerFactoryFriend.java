@@ -24,6 +24,8 @@
  */
 package org.slf4j;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * All methods in this class are reserved for internal use, for testing purposes.
  * 
@@ -52,4 +54,24 @@ public class LoggerFactoryFriend {
     public static void setDetectLoggerNameMismatch(boolean enabled) {
         LoggerFactory.DETECT_LOGGER_NAME_MISMATCH = enabled;
     }
+
+    /**
+     * Set LoggerFactory.BACKGROUND_INITIALIZATION variable.
+     *
+     * @param enabled a boolean
+     * @since 2.0.17
+     */
+    public static void setBackgroundInitialization(boolean enabled) {
+        LoggerFactory.BACKGROUND_INITIALIZATION = enabled;
+    }
+
+    /**
+     * Wait for the completion of an initialization running in the background.
+     *
+     * @return false if the timeout elapsed first
+     * @since 2.0.17
+     */
+    public static boolean awaitBackgroundInitialization(long timeout, TimeUnit unit) throws InterruptedException {
+        return LoggerFactory.awaitBackgroundInitialization(timeout, unit);
+    }
 }
@@ -68,7 +68,11 @@ public class MDC {
     static final String NULL_MDCA_URL = "http://www.slf4j.org/codes.html#null_MDCA";
     private static final String MDC_APAPTER_CANNOT_BE_NULL_MESSAGE = "MDCAdapter cannot be null. See also " + NULL_MDCA_URL;
     static final String NO_STATIC_MDC_BINDER_URL = "http://www.slf4j.org/codes.html#no_static_mdc_binder";
-    static MDCAdapter mdcAdapter;
+    static volatile MDCAdapter mdcAdapter;
+
+    // The adapter of the substitute provider, when MDC was bound to it while LoggerFactory
+    // initialized in the background. Written before mdcAdapter is rebound.
+    static volatile BasicMDCAdapter substituteMDCAdapter;
 
     /**
      * An adapter to remove the key when done.
@@ -102,6 +106,23 @@ public class MDC {
         }
     }
 
+    // Returns the adapter in use, after moving to it the context the current thread put
+    // in the substitute adapter, if any, before LoggerFactory completed its initialization.
+    private static MDCAdapter boundMDCAdapter() {
+        MDCAdapter adapter = mdcAdapter;
+        BasicMDCAdapter substitute = substituteMDCAdapter;
+        if (substitute != null && adapter != substitute && substitute.getKeys() != null) {
+            Map<String, String> context = substitute.getCopyOfContextMap();
+            substitute.clear();
+            if (adapter != null && context != null) {
+                for (Map.Entry<String, String> entry : context.entrySet()) {
+                    adapter.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return adapter;
+    }
+
     /**
      * Put a diagnostic context value (the <code>val</code> parameter) as identified with the
      * <code>key</code> parameter into the current thread's diagnostic context map. The
@@ -121,10 +142,11 @@ public class MDC {
         if (key == null) {
             throw new IllegalArgumentException("key parameter cannot be null");
         }
-        if (mdcAdapter == null) {
+        MDCAdapter adapter = boundMDCAdapter();
+        if (adapter == null) {
             throw new IllegalStateException(MDC_APAPTER_CANNOT_BE_NULL_MESSAGE);
         }
-        mdcAdapter.put(key, val);
+        adapter.put(key, val);
     }
 
     /**
@@ -177,10 +199,11 @@ public class MDC {
             throw new IllegalArgumentException("key parameter cannot be null");
         }
 
-        if (mdcAdapter == null) {
+        MDCAdapter adapter = boundMDCAdapter();
+        if (adapter == null) {
             throw new IllegalStateException(MDC_APAPTER_CANNOT_BE_NULL_MESSAGE);
         }
-        return mdcAdapter.get(key);
+        return adapter.get(key);
     }
 
     /**
@@ -198,20 +221,22 @@ public class MDC {
             throw new IllegalArgumentException("key parameter cannot be null");
         }
 
-        if (mdcAdapter == null) {
+        MDCAdapter adapter = boundMDCAdapter();
+        if (adapter == null) {
             throw new IllegalStateException(MDC_APAPTER_CANNOT_BE_NULL_MESSAGE);
         }
-        mdcAdapter.remove(key);
+        adapter.remove(key);
     }
 
     /**
      * Clear all entries in the MDC of the underlying implementation.
      */
     public static void clear() {
-        if (mdcAdapter == null) {
+        MDCAdapter adapter = boundMDCAdapter();
+        if (adapter == null) {
             throw new IllegalStateException(MDC_APAPTER_CANNOT_BE_NULL_MESSAGE);
         }
-        mdcAdapter.clear();
+        adapter.clear();
     }
 
     /**
@@ -222,10 +247,11 @@ public class MDC {
      * @since 1.5.1
      */
     public static Map<String, String> getCopyOfContextMap() {
-        if (mdcAdapter == null) {
+        MDCAdapter adapter = boundMDCAdapter();
+        if (adapter == null) {
             throw new IllegalStateException(MDC_APAPTER_CANNOT_BE_NULL_MESSAGE);
         }
-        return mdcAdapter.getCopyOfContextMap();
+        return adapter.getCopyOfContextMap();
     }
 
     /**
@@ -240,10 +266,11 @@ public class MDC {
      * @since 1.5.1
      */
     public static void setContextMap(Map<String, String> contextMap) {
-        if (mdcAdapter == null) {
+        MDCAdapter adapter = boundMDCAdapter();
+        if (adapter == null) {
             throw new IllegalStateException(MDC_APAPTER_CANNOT_BE_NULL_MESSAGE);
         }
-        mdcAdapter.setContextMap(contextMap);
+        adapter.setContextMap(contextMap);
     }
 
     /**
@@ -266,10 +293,11 @@ public class MDC {
      * @since 2.0.0
      */
     static public void pushByKey(String key, String value) {
-        if (mdcAdapter == null) {
+        MDCAdapter adapter = boundMDCAdapter();
+        if (adapter == null) {
             throw new IllegalStateException(MDC_APAPTER_CANNOT_BE_NULL_MESSAGE);
         }
-        mdcAdapter.pushByKey(key, value);
+        adapter.pushByKey(key, value);
     }
     
     /**
@@ -280,10 +308,11 @@ public class MDC {
      * @since 2.0.0
      */
     static public String popByKey(String key) {
-        if (mdcAdapter == null) {
+        MDCAdapter adapter = boundMDCAdapter();
+        if (adapter == null) {
             throw new IllegalStateException(MDC_APAPTER_CANNOT_BE_NULL_MESSAGE);
         }
-        return mdcAdapter.popByKey(key);
+        return adapter.popByKey(key);
     }
 
     /**
@@ -295,9 +324,10 @@ public class MDC {
      * @since 2.0.0
      */
     public Deque<String>  getCopyOfDequeByKey(String key) {
-        if (mdcAdapter == null) {
+        MDCAdapter adapter = boundMDCAdapter();
+        if (adapter == null) {
             throw new IllegalStateException(MDC_APAPTER_CANNOT_BE_NULL_MESSAGE);
         }
-        return mdcAdapter.getCopyOfDequeByKey(key);
+        return adapter.getCopyOfDequeByKey(key);
     }
 }
@@ -43,7 +43,8 @@ import org.slf4j.spi.SLF4JServiceProvider;
  * @author Ceki G&uuml;lc&uuml;
  */
 public class MarkerFactory {
-    static IMarkerFactory MARKER_FACTORY;
+    // volatile as it may be rebound by a background initialization of LoggerFactory
+    static volatile IMarkerFactory MARKER_FACTORY;
 
     private MarkerFactory() {
     }
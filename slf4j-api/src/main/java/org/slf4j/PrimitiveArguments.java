@@ -0,0 +1,32 @@
+package org.slf4j;
+
+import org.slf4j.event.Level;
+import org.slf4j.spi.CallerBoundaryAware;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * Support for the default implementations of the primitive argument forms of
+ * {@link Logger}, {@link Logger#debug(String, long)} for instance.
+ *
+ * <p>These defaults log through a {@link LoggingEventBuilder} whose caller
+ * boundary is {@link Logger} itself. A backend implementing {@link Logger}
+ * directly thus sees the application code, not the default method, as the
+ * caller.</p>
+ *
+ * @since 2.0.17
+ */
+final class PrimitiveArguments {
+
+    static final String CALLER_BOUNDARY = Logger.class.getName();
+
+    private PrimitiveArguments() {
+    }
+
+    static LoggingEventBuilder builder(Logger logger, Level level) {
+        LoggingEventBuilder builder = logger.makeLoggingEventBuilder(level);
+        if (builder instanceof CallerBoundaryAware) {
+            ((CallerBoundaryAware) builder).setCallerBoundary(CALLER_BOUNDARY);
+        }
+        return builder;
+    }
+}
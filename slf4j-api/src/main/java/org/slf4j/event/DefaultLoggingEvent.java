@@ -1,14 +1,33 @@
 package org.slf4j.event;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.Marker;
+import org.slf4j.helpers.MarkerSet;
+import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.helpers.Reporter;
 
 /**
  * A default implementation of {@link LoggingEvent}.
+ *
+ * <p>The first {@value #INLINE_ARGUMENTS} arguments and the first
+ * {@value #INLINE_KEY_VALUE_PAIRS} key-value pairs are held in fields of the
+ * event itself. Only events with more of them allocate arrays. The arrays
+ * returned by {@link #getArgumentArray()} and the lists returned by
+ * {@link #getArguments()} and {@link #getKeyValuePairs()} are built once and
+ * returned again on subsequent calls, unless the event is modified in the
+ * meantime. They are never modified by the event afterwards, and callers
+ * should not modify them either.</p>
+ *
+ * <p>Arguments and key-value pairs added through
+ * {@link #addDeferredArgument(Supplier)} and
+ * {@link #addDeferredKeyValue(String, Supplier)} are resolved when the
+ * arguments, respectively the key-value pairs, are first read, which includes
+ * formatting the message. Each supplier is invoked at most once. Resolution is
+ * not thread-safe, see {@link #prepareForDeferredProcessing()}.</p>
  * 
  * @author Ceki G&uuml;lc&uuml;
  *
@@ -19,10 +38,32 @@ public class DefaultLoggingEvent implements LoggingEvent {
     Logger logger;
     Level level;
 
+    static final int INLINE_ARGUMENTS = 3;
+    static final int INLINE_KEY_VALUE_PAIRS = 2;
+
     String message;
-    List<Marker> markers;
-    List<Object> arguments;
-    List<KeyValuePair> keyValuePairs;
+    // computed on demand by getFormattedMessage(), reset whenever the message or arguments change
+    String formattedMessage;
+    MarkerSet markers;
+
+    // Up to INLINE_ARGUMENTS arguments are held in argument0..2, and argumentArray is then
+    // merely a copy made by getArgumentArray(). Beyond that, all the arguments are held in
+    // argumentArray, which may have spare room until getArgumentArray() trims it.
+    int argumentCount;
+    Object argument0;
+    Object argument1;
+    Object argument2;
+    Object[] argumentArray;
+
+    // same scheme as for arguments
+    int keyValuePairCount;
+    KeyValuePair keyValuePair0;
+    KeyValuePair keyValuePair1;
+    KeyValuePair[] keyValuePairArray;
+
+    // whether some arguments, respectively key-value pairs, are yet to be resolved
+    boolean deferredArguments;
+    boolean deferredKeyValuePairs;
 
     Throwable throwable;
     String threadName;
@@ -35,59 +76,262 @@ public class DefaultLoggingEvent implements LoggingEvent {
         this.level = level;
     }
 
+    /**
+     * Returns this event to the state of a newly created event with the given
+     * level and logger.
+     *
+     * @param level the level of the event
+     * @param logger the logger the event is logged through
+     * @since 2.0.17
+     */
+    public void reset(Level level, Logger logger) {
+        this.logger = logger;
+        this.level = level;
+        this.message = null;
+        this.formattedMessage = null;
+        this.markers = null;
+        this.argumentCount = 0;
+        this.argument0 = null;
+        this.argument1 = null;
+        this.argument2 = null;
+        this.argumentArray = null;
+        this.keyValuePairCount = 0;
+        this.keyValuePair0 = null;
+        this.keyValuePair1 = null;
+        this.keyValuePairArray = null;
+        this.deferredArguments = false;
+        this.deferredKeyValuePairs = false;
+        this.throwable = null;
+        this.threadName = null;
+        this.timeStamp = 0;
+        this.callerBoundary = null;
+    }
+
+    /**
+     * Adds a marker to this event. Null markers, and markers equal to a marker
+     * already added, are ignored.
+     *
+     * <p>Compatibility note: up to 2.0.16 a marker added twice was listed twice
+     * by {@link #getMarkers()}. It is now listed once.</p>
+     */
     public void addMarker(Marker marker) {
-        if (markers == null) {
-            markers = new ArrayList<>(2);
+        if (marker != null) {
+            markers = (markers == null ? MarkerSet.EMPTY : markers).with(marker);
         }
-        markers.add(marker);
     }
 
+    /**
+     * Returns the markers of this event, null if none were added. Recurring
+     * combinations of markers are shared between events, see {@link MarkerSet}.
+     *
+     * <p>Compatibility note: up to 2.0.16 this method returned the mutable list
+     * backing the event. The returned set is now immutable, its mutators throw
+     * {@link UnsupportedOperationException}; use {@link #addMarker(Marker)}
+     * instead.</p>
+     */
     @Override
-    public List<Marker> getMarkers() {
+    public MarkerSet getMarkers() {
         return markers;
     }
 
     public void addArgument(Object p) {
-        getNonNullArguments().add(p);
+        switch (argumentCount) {
+        case 0:
+            argument0 = p;
+            argumentArray = null;
+            break;
+        case 1:
+            argument1 = p;
+            argumentArray = null;
+            break;
+        case 2:
+            argument2 = p;
+            argumentArray = null;
+            break;
+        case INLINE_ARGUMENTS:
+            argumentArray = new Object[] { argument0, argument1, argument2, p, null, null };
+            argument0 = argument1 = argument2 = null;
+            break;
+        default:
+            if (argumentCount == argumentArray.length) {
+                // a new array also leaves alone any array handed out by getArgumentArray()
+                argumentArray = Arrays.copyOf(argumentArray, argumentCount * 2);
+            }
+            argumentArray[argumentCount] = p;
+        }
+        argumentCount++;
+        formattedMessage = null;
     }
 
     public void addArguments(Object... args) {
-        getNonNullArguments().addAll(Arrays.asList(args));
+        for (Object arg : args) {
+            addArgument(arg);
+        }
     }
 
-    private List<Object> getNonNullArguments() {
-        if (arguments == null) {
-            arguments = new ArrayList<>(3);
-        }
-        return arguments;
+    /**
+     * Adds an argument whose value is obtained from the given supplier once
+     * the arguments of this event are read.
+     *
+     * @param supplier supplies the value of the argument
+     * @since 2.0.17
+     */
+    public void addDeferredArgument(Supplier<?> supplier) {
+        addArgument(new Deferred(supplier));
+        deferredArguments = true;
     }
 
+    /**
+     * Returns a fixed-size list view of {@link #getArgumentArray()}, or null
+     * if the event has no arguments.
+     */
     @Override
     public List<Object> getArguments() {
-        return arguments;
+        Object[] array = getArgumentArray();
+        return array == null ? null : Arrays.asList(array);
     }
 
+    /**
+     * Returns the arguments of this event, or null if it has none. The same
+     * array is returned by subsequent calls as long as no argument is added.
+     */
     @Override
     public Object[] getArgumentArray() {
-        if (arguments == null)
+        if (argumentCount == 0) {
             return null;
-        return arguments.toArray();
+        }
+        if (deferredArguments) {
+            resolveDeferredArguments();
+        }
+        Object[] array = argumentArray;
+        if (array == null) {
+            // at most INLINE_ARGUMENTS arguments, all held inline
+            switch (argumentCount) {
+            case 1:
+                array = new Object[] { argument0 };
+                break;
+            case 2:
+                array = new Object[] { argument0, argument1 };
+                break;
+            default:
+                array = new Object[] { argument0, argument1, argument2 };
+            }
+            argumentArray = array;
+        } else if (array.length != argumentCount) {
+            array = Arrays.copyOf(array, argumentCount);
+            argumentArray = array;
+        }
+        return array;
+    }
+
+    private void resolveDeferredArguments() {
+        deferredArguments = false;
+        if (argumentCount > INLINE_ARGUMENTS) {
+            // the storage array holds deferred values, hence it was never handed out
+            for (int i = 0; i < argumentCount; i++) {
+                argumentArray[i] = Deferred.resolve(argumentArray[i]);
+            }
+        } else {
+            argument0 = Deferred.resolve(argument0);
+            argument1 = Deferred.resolve(argument1);
+            argument2 = Deferred.resolve(argument2);
+        }
     }
 
     public void addKeyValue(String key, Object value) {
-        getNonnullKeyValuePairs().add(new KeyValuePair(key, value));
+        addKeyValuePair(new KeyValuePair(key, value));
+    }
+
+    /**
+     * Adds a key-value pair whose value is obtained from the given supplier
+     * once the key-value pairs of this event are read.
+     *
+     * @param key the key
+     * @param supplier supplies the value
+     * @since 2.0.17
+     */
+    public void addDeferredKeyValue(String key, Supplier<?> supplier) {
+        addKeyValuePair(new KeyValuePair(key, new Deferred(supplier)));
+        deferredKeyValuePairs = true;
     }
 
-    private List<KeyValuePair> getNonnullKeyValuePairs() {
-        if (keyValuePairs == null) {
-            keyValuePairs = new ArrayList<>(4);
+    private void addKeyValuePair(KeyValuePair kvp) {
+        switch (keyValuePairCount) {
+        case 0:
+            keyValuePair0 = kvp;
+            keyValuePairArray = null;
+            break;
+        case 1:
+            keyValuePair1 = kvp;
+            keyValuePairArray = null;
+            break;
+        case INLINE_KEY_VALUE_PAIRS:
+            keyValuePairArray = new KeyValuePair[] { keyValuePair0, keyValuePair1, kvp, null };
+            keyValuePair0 = keyValuePair1 = null;
+            break;
+        default:
+            if (keyValuePairCount == keyValuePairArray.length) {
+                keyValuePairArray = Arrays.copyOf(keyValuePairArray, keyValuePairCount * 2);
+            }
+            keyValuePairArray[keyValuePairCount] = kvp;
         }
-        return keyValuePairs;
+        keyValuePairCount++;
     }
 
+    /**
+     * Returns a fixed-size list of the key-value pairs of this event, or null
+     * if it has none.
+     */
     @Override
     public List<KeyValuePair> getKeyValuePairs() {
-        return keyValuePairs;
+        if (keyValuePairCount == 0) {
+            return null;
+        }
+        if (deferredKeyValuePairs) {
+            resolveDeferredKeyValuePairs();
+        }
+        KeyValuePair[] array = keyValuePairArray;
+        if (array == null) {
+            array = keyValuePairCount == 1 ? new KeyValuePair[] { keyValuePair0 } : new KeyValuePair[] { keyValuePair0, keyValuePair1 };
+            keyValuePairArray = array;
+        } else if (array.length != keyValuePairCount) {
+            array = Arrays.copyOf(array, keyValuePairCount);
+            keyValuePairArray = array;
+        }
+        return Arrays.asList(array);
+    }
+
+    private void resolveDeferredKeyValuePairs() {
+        deferredKeyValuePairs = false;
+        if (keyValuePairCount > INLINE_KEY_VALUE_PAIRS) {
+            for (int i = 0; i < keyValuePairCount; i++) {
+                keyValuePairArray[i] = Deferred.resolve(keyValuePairArray[i]);
+            }
+        } else {
+            keyValuePair0 = Deferred.resolve(keyValuePair0);
+            keyValuePair1 = Deferred.resolve(keyValuePair1);
+        }
+    }
+
+    /**
+     * Resolves the deferred arguments and key-value pairs of this event.
+     *
+     * <p>Deferred values are resolved on first read, by the reading thread and
+     * without synchronization. Consumers which hand the event over to another
+     * thread, asynchronous appenders for example, must therefore invoke this
+     * method beforehand. The suppliers are then invoked in the context of the
+     * logging call, which is also what they typically expect.</p>
+     *
+     * @since 2.0.17
+     */
+    @Override
+    public void prepareForDeferredProcessing() {
+        if (deferredArguments) {
+            resolveDeferredArguments();
+        }
+        if (deferredKeyValuePairs) {
+            resolveDeferredKeyValuePairs();
+        }
     }
 
     public void setThrowable(Throwable cause) {
@@ -111,6 +355,24 @@ public class DefaultLoggingEvent implements LoggingEvent {
 
     public void setMessage(String message) {
         this.message = message;
+        this.formattedMessage = null;
+    }
+
+    /**
+     * Formats the message on first invocation and returns the same instance on
+     * subsequent invocations, unless the message or arguments are changed in
+     * the meantime.
+     *
+     * @since 2.0.17
+     */
+    @Override
+    public String getFormattedMessage() {
+        String result = formattedMessage;
+        if (result == null && message != null) {
+            result = MessageFormatter.basicArrayFormat(message, getArgumentArray());
+            formattedMessage = result;
+        }
+        return result;
     }
 
     @Override
@@ -137,4 +399,40 @@ public class DefaultLoggingEvent implements LoggingEvent {
     public String getCallerBoundary() {
         return callerBoundary;
     }
+
+    /**
+     * A value yet to be obtained from a supplier.
+     */
+    private static final class Deferred {
+
+        final Supplier<?> supplier;
+
+        Deferred(Supplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        static Object resolve(Object o) {
+            return o instanceof Deferred ? ((Deferred) o).get() : o;
+        }
+
+        static KeyValuePair resolve(KeyValuePair kvp) {
+            if (kvp != null && kvp.value instanceof Deferred) {
+                return new KeyValuePair(kvp.key, ((Deferred) kvp.value).get());
+            }
+            return kvp;
+        }
+
+        private Object get() {
+            if (supplier == null) {
+                return null;
+            }
+            try {
+                return supplier.get();
+            } catch (Throwable t) {
+                // the logging call has returned by now, the caller cannot handle the failure
+                Reporter.error("Failed evaluation of a supplier of type [" + supplier.getClass().getName() + "]", t);
+                return "[FAILED Supplier.get()]";
+            }
+        }
+    }
 }
@@ -24,13 +24,17 @@ public class EventRecordingLogger extends LegacyAbstractLogger {
     SubstituteLogger logger;
     Queue<SubstituteLoggingEvent> eventQueue;
 
-    // as an event recording logger we have no choice but to record all events
+    // unless the queue restricts recording, we have no choice but to record all events
     final static boolean RECORD_ALL_EVENTS = true;
 
+    // null if the queue records all events
+    private final SubstituteEventQueue substituteEventQueue;
+
     public EventRecordingLogger(SubstituteLogger logger, Queue<SubstituteLoggingEvent> eventQueue) {
         this.logger = logger;
         this.name = logger.getName();
         this.eventQueue = eventQueue;
+        this.substituteEventQueue = eventQueue instanceof SubstituteEventQueue ? (SubstituteEventQueue) eventQueue : null;
     }
 
     public String getName() {
@@ -38,27 +42,35 @@ public class EventRecordingLogger extends LegacyAbstractLogger {
     }
 
     public boolean isTraceEnabled() {
-        return RECORD_ALL_EVENTS;
+        return isRecorded(Level.TRACE);
     }
 
     public boolean isDebugEnabled() {
-        return RECORD_ALL_EVENTS;
+        return isRecorded(Level.DEBUG);
     }
 
     public boolean isInfoEnabled() {
-        return RECORD_ALL_EVENTS;
+        return isRecorded(Level.INFO);
     }
 
     public boolean isWarnEnabled() {
-        return RECORD_ALL_EVENTS;
+        return isRecorded(Level.WARN);
     }
 
     public boolean isErrorEnabled() {
-        return RECORD_ALL_EVENTS;
+        return isRecorded(Level.ERROR);
+    }
+
+    private boolean isRecorded(Level level) {
+        return substituteEventQueue == null ? RECORD_ALL_EVENTS : substituteEventQueue.isRecorded(level);
     }
 
     // WARNING: this method assumes that any throwable is properly extracted
     protected void handleNormalizedLoggingCall(Level level, Marker marker, String msg, Object[] args, Throwable throwable) {
+        if (substituteEventQueue != null && substituteEventQueue.isCountOnly()) {
+            substituteEventQueue.countDroppedEvent();
+            return;
+        }
         SubstituteLoggingEvent loggingEvent = new SubstituteLoggingEvent();
         loggingEvent.setTimeStamp(System.currentTimeMillis());
         loggingEvent.setLevel(level);
@@ -73,7 +85,8 @@ public class EventRecordingLogger extends LegacyAbstractLogger {
         loggingEvent.setArgumentArray(args);
         loggingEvent.setThrowable(throwable);
 
-        eventQueue.add(loggingEvent);
+        // a bounded queue may refuse the event, in which case it counts it as dropped
+        eventQueue.offer(loggingEvent);
 
     }
 
@@ -3,6 +3,7 @@ package org.slf4j.event;
 import java.util.List;
 
 import org.slf4j.Marker;
+import org.slf4j.helpers.MessageFormatter;
 
 /**
  * The minimal interface sufficient for the restitution of data passed
@@ -19,12 +20,29 @@ public interface LoggingEvent {
 
     String getMessage();
 
+    /**
+     * Returns the message of this event with its arguments substituted, as
+     * rendered by {@link MessageFormatter#basicArrayFormat(String, Object[])}.
+     *
+     * <p>Implementations are encouraged to format the message on the first
+     * invocation of this method only and return the same instance thereafter.
+     * Thus, an event handed to several consumers is formatted at most once, and
+     * never if all consumers discard it. This default implementation formats the
+     * message on each invocation.</p>
+     *
+     * @return the formatted message, null if the message is null
+     * @since 2.0.17
+     */
+    default String getFormattedMessage() {
+        return MessageFormatter.basicArrayFormat(getMessage(), getArgumentArray());
+    }
+
     List<Object> getArguments();
 
     Object[] getArgumentArray();
 
     /**
-     * List of markers in the event, might be null.
+     * List of markers in the event, might be null. The list may be unmodifiable.
      * @return markers in the event, might be null.
      */
     List<Marker> getMarkers();
@@ -46,4 +64,19 @@ public interface LoggingEvent {
     default String getCallerBoundary() {
         return null;
     }
+
+    /**
+     * Prepares this event for processing outside of the logging call, on
+     * another thread in particular.
+     *
+     * <p>Some events, see {@link DefaultLoggingEvent}, obtain their arguments
+     * or key-value pairs from suppliers only when these are first read.
+     * Consumers which defer the processing of an event to another thread must
+     * invoke this method on the logging thread before handing the event over.
+     * This default implementation does nothing.</p>
+     *
+     * @since 2.0.17
+     */
+    default void prepareForDeferredProcessing() {
+    }
 }
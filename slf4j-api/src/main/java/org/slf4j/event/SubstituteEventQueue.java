@@ -0,0 +1,193 @@
+package org.slf4j.event;
+
+import java.util.Locale;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.helpers.Reporter;
+import org.slf4j.helpers.Util;
+
+/**
+ * The queue in which {@link EventRecordingLogger} instances record the events
+ * logged during the initialization phase, for replay once initialization is
+ * complete.
+ *
+ * <p>By default, all events are recorded and the queue is unbounded. The
+ * following system properties limit the recording, for applications logging
+ * heavily before initialization completes:</p>
+ *
+ * <ul>
+ * <li>{@value #CAPACITY_KEY}, the maximum number of events held,</li>
+ * <li>{@value #RECORDING_LEVEL_KEY}, the level below which events are not
+ * recorded, nor counted, at all,</li>
+ * <li>{@value #OVERFLOW_POLICY_KEY}, the {@link OverflowPolicy} applied once
+ * the queue is full, {@link OverflowPolicy#DROP_NEWEST} by default.</li>
+ * </ul>
+ *
+ * <p>The number of events dropped is reported when the recorded events are
+ * replayed.</p>
+ *
+ * @since 2.0.17
+ */
+public class SubstituteEventQueue extends LinkedBlockingQueue<SubstituteLoggingEvent> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * System property setting the capacity of the queue.
+     */
+    public static final String CAPACITY_KEY = "slf4j.substitute.queueCapacity";
+
+    /**
+     * System property setting the minimum level of the events recorded.
+     */
+    public static final String RECORDING_LEVEL_KEY = "slf4j.substitute.recordingLevel";
+
+    /**
+     * System property setting the {@link OverflowPolicy}, by name.
+     */
+    public static final String OVERFLOW_POLICY_KEY = "slf4j.substitute.overflowPolicy";
+
+    /**
+     * What becomes of an event recorded in a full queue.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The oldest event in the queue is dropped to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * The new event is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * No event is recorded, whatever the capacity; events are counted only.
+         */
+        COUNT_ONLY
+    }
+
+    private final int recordingLevelInt;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong droppedEventCount = new AtomicLong();
+
+    /**
+     * Creates a queue recording all events, with no bound.
+     */
+    public SubstituteEventQueue() {
+        this(Integer.MAX_VALUE, Level.TRACE, OverflowPolicy.DROP_NEWEST);
+    }
+
+    /**
+     * Creates a queue with the given settings.
+     *
+     * @param capacity the maximum number of events held
+     * @param recordingLevel the level below which events are ignored
+     * @param overflowPolicy what becomes of events recorded in a full queue
+     */
+    public SubstituteEventQueue(int capacity, Level recordingLevel, OverflowPolicy overflowPolicy) {
+        super(capacity);
+        this.recordingLevelInt = recordingLevel.toInt();
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns a queue configured by the system properties documented above.
+     */
+    public static SubstituteEventQueue fromSystemProperties() {
+        int capacity = Integer.MAX_VALUE;
+        String capacityStr = Util.safeGetSystemProperty(CAPACITY_KEY);
+        if (capacityStr != null) {
+            try {
+                capacity = Integer.parseInt(capacityStr.trim());
+            } catch (NumberFormatException e) {
+                Reporter.warn("Ignoring invalid value \"" + capacityStr + "\" of \"" + CAPACITY_KEY + "\" system property");
+            }
+            if (capacity <= 0) {
+                Reporter.warn("Ignoring non-positive value \"" + capacityStr + "\" of \"" + CAPACITY_KEY + "\" system property");
+                capacity = Integer.MAX_VALUE;
+            }
+        }
+        Level recordingLevel = valueOf(Level.class, RECORDING_LEVEL_KEY, Level.TRACE);
+        OverflowPolicy overflowPolicy = valueOf(OverflowPolicy.class, OVERFLOW_POLICY_KEY, OverflowPolicy.DROP_NEWEST);
+        return new SubstituteEventQueue(capacity, recordingLevel, overflowPolicy);
+    }
+
+    private static <E extends Enum<E>> E valueOf(Class<E> enumClass, String key, E defaultValue) {
+        String name = Util.safeGetSystemProperty(key);
+        if (name == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(enumClass, name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            Reporter.warn("Ignoring invalid value \"" + name + "\" of \"" + key + "\" system property");
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Returns true if events of the given level are to be offered to this
+     * queue.
+     */
+    public boolean isRecorded(Level level) {
+        return level.toInt() >= recordingLevelInt;
+    }
+
+    /**
+     * Returns true if events are counted rather than held.
+     */
+    public boolean isCountOnly() {
+        return overflowPolicy == OverflowPolicy.COUNT_ONLY;
+    }
+
+    /**
+     * Inserts the event as per the {@link OverflowPolicy} of this queue. Any
+     * event dropped in the process is counted.
+     *
+     * @return true if the given event was inserted
+     */
+    @Override
+    public boolean offer(SubstituteLoggingEvent event) {
+        switch (overflowPolicy) {
+        case COUNT_ONLY:
+            droppedEventCount.incrementAndGet();
+            return false;
+        case DROP_OLDEST:
+            while (!super.offer(event)) {
+                if (poll() != null) {
+                    droppedEventCount.incrementAndGet();
+                }
+            }
+            return true;
+        default:
+            if (super.offer(event)) {
+                return true;
+            }
+            droppedEventCount.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Counts an event which was dropped before it was offered.
+     */
+    public void countDroppedEvent() {
+        droppedEventCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of events dropped so far.
+     */
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+    /**
+     * Removes all events and resets the count of dropped events.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        droppedEventCount.set(0);
+    }
+}
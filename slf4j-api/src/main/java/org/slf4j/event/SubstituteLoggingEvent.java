@@ -1,20 +1,23 @@
 package org.slf4j.event;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.slf4j.Marker;
+import org.slf4j.helpers.MarkerSet;
+import org.slf4j.helpers.MessageFormatter;
 import org.slf4j.helpers.SubstituteLogger;
 
 public class SubstituteLoggingEvent implements LoggingEvent {
 
     Level level;
-    List<Marker> markers;
+    MarkerSet markers;
     String loggerName;
     SubstituteLogger logger;
     String threadName;
     String message;
+    // computed on demand by getFormattedMessage(), reset whenever the message or arguments change
+    String formattedMessage;
     Object[] argArray;
     List<KeyValuePair> keyValuePairList;
 
@@ -29,7 +32,7 @@ public class SubstituteLoggingEvent implements LoggingEvent {
         this.level = level;
     }
 
-    public List<Marker> getMarkers() {
+    public MarkerSet getMarkers() {
         return markers;
     }
 
@@ -37,11 +40,7 @@ public class SubstituteLoggingEvent implements LoggingEvent {
         if (marker == null)
             return;
 
-        if (markers == null) {
-            markers = new ArrayList<>(2);
-        }
-
-        markers.add(marker);
+        markers = (markers == null ? MarkerSet.EMPTY : markers).with(marker);
     }
 
     public String getLoggerName() {
@@ -66,6 +65,24 @@ public class SubstituteLoggingEvent implements LoggingEvent {
 
     public void setMessage(String message) {
         this.message = message;
+        this.formattedMessage = null;
+    }
+
+    /**
+     * Formats the message on first invocation and returns the same instance on
+     * subsequent invocations, including replays of this event to several
+     * delegates.
+     *
+     * @since 2.0.17
+     */
+    @Override
+    public String getFormattedMessage() {
+        String result = formattedMessage;
+        if (result == null && message != null) {
+            result = MessageFormatter.basicArrayFormat(message, argArray);
+            formattedMessage = result;
+        }
+        return result;
     }
 
     public Object[] getArgumentArray() {
@@ -74,6 +91,7 @@ public class SubstituteLoggingEvent implements LoggingEvent {
 
     public void setArgumentArray(Object[] argArray) {
         this.argArray = argArray;
+        this.formattedMessage = null;
     }
 
     @Override
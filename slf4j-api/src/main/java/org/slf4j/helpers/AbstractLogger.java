@@ -104,6 +104,48 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    @Override
+    public void trace(String format, int arg) {
+        if (isTraceEnabled()) {
+            handlePrimitiveArgumentCall(Level.TRACE, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, long arg) {
+        if (isTraceEnabled()) {
+            handlePrimitiveArgumentCall(Level.TRACE, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, float arg) {
+        if (isTraceEnabled()) {
+            handlePrimitiveArgumentCall(Level.TRACE, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, double arg) {
+        if (isTraceEnabled()) {
+            handlePrimitiveArgumentCall(Level.TRACE, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, boolean arg) {
+        if (isTraceEnabled()) {
+            handlePrimitiveArgumentCall(Level.TRACE, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, char arg) {
+        if (isTraceEnabled()) {
+            handlePrimitiveArgumentCall(Level.TRACE, format, arg);
+        }
+    }
+
     @Override
     public void trace(Marker marker, String msg) {
         if (isTraceEnabled(marker)) {
@@ -168,6 +210,48 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    @Override
+    public void debug(String format, int arg) {
+        if (isDebugEnabled()) {
+            handlePrimitiveArgumentCall(Level.DEBUG, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, long arg) {
+        if (isDebugEnabled()) {
+            handlePrimitiveArgumentCall(Level.DEBUG, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, float arg) {
+        if (isDebugEnabled()) {
+            handlePrimitiveArgumentCall(Level.DEBUG, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, double arg) {
+        if (isDebugEnabled()) {
+            handlePrimitiveArgumentCall(Level.DEBUG, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, boolean arg) {
+        if (isDebugEnabled()) {
+            handlePrimitiveArgumentCall(Level.DEBUG, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, char arg) {
+        if (isDebugEnabled()) {
+            handlePrimitiveArgumentCall(Level.DEBUG, format, arg);
+        }
+    }
+
     public void debug(Marker marker, String msg) {
         if (isDebugEnabled(marker)) {
             handle_0ArgsCall(Level.DEBUG, marker, msg, null);
@@ -228,6 +312,48 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    @Override
+    public void info(String format, int arg) {
+        if (isInfoEnabled()) {
+            handlePrimitiveArgumentCall(Level.INFO, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, long arg) {
+        if (isInfoEnabled()) {
+            handlePrimitiveArgumentCall(Level.INFO, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, float arg) {
+        if (isInfoEnabled()) {
+            handlePrimitiveArgumentCall(Level.INFO, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, double arg) {
+        if (isInfoEnabled()) {
+            handlePrimitiveArgumentCall(Level.INFO, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, boolean arg) {
+        if (isInfoEnabled()) {
+            handlePrimitiveArgumentCall(Level.INFO, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, char arg) {
+        if (isInfoEnabled()) {
+            handlePrimitiveArgumentCall(Level.INFO, format, arg);
+        }
+    }
+
     public void info(Marker marker, String msg) {
         if (isInfoEnabled(marker)) {
             handle_0ArgsCall(Level.INFO, marker, msg, null);
@@ -288,6 +414,48 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    @Override
+    public void warn(String format, int arg) {
+        if (isWarnEnabled()) {
+            handlePrimitiveArgumentCall(Level.WARN, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, long arg) {
+        if (isWarnEnabled()) {
+            handlePrimitiveArgumentCall(Level.WARN, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, float arg) {
+        if (isWarnEnabled()) {
+            handlePrimitiveArgumentCall(Level.WARN, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, double arg) {
+        if (isWarnEnabled()) {
+            handlePrimitiveArgumentCall(Level.WARN, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, boolean arg) {
+        if (isWarnEnabled()) {
+            handlePrimitiveArgumentCall(Level.WARN, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, char arg) {
+        if (isWarnEnabled()) {
+            handlePrimitiveArgumentCall(Level.WARN, format, arg);
+        }
+    }
+
     public void warn(Marker marker, String msg) {
         if (isWarnEnabled(marker)) {
             handle_0ArgsCall(Level.WARN, marker, msg, null);
@@ -348,6 +516,48 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    @Override
+    public void error(String format, int arg) {
+        if (isErrorEnabled()) {
+            handlePrimitiveArgumentCall(Level.ERROR, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, long arg) {
+        if (isErrorEnabled()) {
+            handlePrimitiveArgumentCall(Level.ERROR, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, float arg) {
+        if (isErrorEnabled()) {
+            handlePrimitiveArgumentCall(Level.ERROR, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, double arg) {
+        if (isErrorEnabled()) {
+            handlePrimitiveArgumentCall(Level.ERROR, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, boolean arg) {
+        if (isErrorEnabled()) {
+            handlePrimitiveArgumentCall(Level.ERROR, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, char arg) {
+        if (isErrorEnabled()) {
+            handlePrimitiveArgumentCall(Level.ERROR, format, arg);
+        }
+    }
+
     public void error(Marker marker, String msg) {
         if (isErrorEnabled(marker)) {
             handle_0ArgsCall(Level.ERROR, marker, msg, null);
@@ -404,6 +614,70 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    /**
+     * Handles a call with a single <code>long</code> argument, for instance
+     * {@link #debug(String, long)}, once the level is known to be enabled.
+     *
+     * <p>This implementation boxes the argument and delegates to
+     * {@link #handleNormalizedLoggingCall(Level, Marker, String, Object[], Throwable)}.
+     * Backends formatting messages themselves may override it, and the
+     * other primitive forms, to append the argument without boxing it, see
+     * {@link MessageFormatter#formatTo(StringBuilder, String, long)}.</p>
+     *
+     * @param level the SLF4J level for this event
+     * @param messagePattern The message pattern which will be parsed and formatted
+     * @param arg the argument
+     * @since 2.0.17
+     */
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, long arg) {
+        handleNormalizedLoggingCall(level, null, messagePattern, new Object[] { arg }, null);
+    }
+
+    /**
+     * See {@link #handlePrimitiveArgumentCall(Level, String, long)}.
+     *
+     * @since 2.0.17
+     */
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, int arg) {
+        handleNormalizedLoggingCall(level, null, messagePattern, new Object[] { arg }, null);
+    }
+
+    /**
+     * See {@link #handlePrimitiveArgumentCall(Level, String, long)}.
+     *
+     * @since 2.0.17
+     */
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, float arg) {
+        handleNormalizedLoggingCall(level, null, messagePattern, new Object[] { arg }, null);
+    }
+
+    /**
+     * See {@link #handlePrimitiveArgumentCall(Level, String, long)}.
+     *
+     * @since 2.0.17
+     */
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, double arg) {
+        handleNormalizedLoggingCall(level, null, messagePattern, new Object[] { arg }, null);
+    }
+
+    /**
+     * See {@link #handlePrimitiveArgumentCall(Level, String, long)}.
+     *
+     * @since 2.0.17
+     */
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, boolean arg) {
+        handleNormalizedLoggingCall(level, null, messagePattern, new Object[] { arg }, null);
+    }
+
+    /**
+     * See {@link #handlePrimitiveArgumentCall(Level, String, long)}.
+     *
+     * @since 2.0.17
+     */
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, char arg) {
+        handleNormalizedLoggingCall(level, null, messagePattern, new Object[] { arg }, null);
+    }
+
     abstract protected String getFullyQualifiedCallerName();
 
     /**
@@ -0,0 +1,135 @@
+package org.slf4j.helpers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.spi.ArgumentRenderer;
+
+/**
+ * Registry of the {@link ArgumentRenderer} instances used by
+ * {@link MessageFormatter} to render non-array arguments.
+ *
+ * <p>A renderer registered for a type applies to that type and to all its
+ * subtypes, unless a renderer is registered for a more specific type. Classes
+ * take precedence over interfaces: for an argument of class C, the renderers
+ * registered for C and its superclasses are considered first, nearest first,
+ * and only then those registered for the interfaces they implement.</p>
+ *
+ * <p>The renderer applicable to a class is resolved once and cached per class
+ * in a {@link ClassValue}, making subsequent lookups constant time. The cache
+ * is discarded whenever the registrations change. When no renderer is
+ * registered at all, lookups return immediately.</p>
+ *
+ * @since 2.0.17
+ */
+public final class ArgumentRenderers {
+
+    private static final Map<Class<?>, ArgumentRenderer<?>> REGISTERED = new ConcurrentHashMap<>();
+
+    // marks classes for which no renderer applies, ClassValue does not accept null values
+    private static final ArgumentRenderer<Object> NONE = new ArgumentRenderer<Object>() {
+        public void render(StringBuilder sbuf, Object argument) {
+            sbuf.append(argument);
+        }
+    };
+
+    // null as long as no renderer is registered
+    private static volatile ClassValue<ArgumentRenderer<Object>> resolved;
+
+    private ArgumentRenderers() {
+    }
+
+    /**
+     * Registers renderer for arguments of the given type and its subtypes,
+     * replacing any renderer previously registered for the same type.
+     *
+     * @param type the type of the arguments to render
+     * @param renderer the renderer to use for such arguments
+     */
+    public static synchronized <T> void register(Class<? extends T> type, ArgumentRenderer<T> renderer) {
+        if (type == null || renderer == null) {
+            throw new IllegalArgumentException("type and renderer cannot be null");
+        }
+        if (type.isArray() || type.isPrimitive()) {
+            throw new IllegalArgumentException("Renderers cannot be registered for type " + type.getName());
+        }
+        REGISTERED.put(type, renderer);
+        resolved = newCache();
+    }
+
+    /**
+     * Removes the renderer registered for the given type, if any.
+     *
+     * @param type the type passed to {@link #register(Class, ArgumentRenderer)}
+     * @return true if a renderer was registered for type
+     */
+    public static synchronized boolean unregister(Class<?> type) {
+        if (REGISTERED.remove(type) == null) {
+            return false;
+        }
+        resolved = REGISTERED.isEmpty() ? null : newCache();
+        return true;
+    }
+
+    /**
+     * Returns the renderer applicable to instances of the given class, or null
+     * if such instances are to be rendered with <code>toString()</code>.
+     *
+     * @param type the class of an argument
+     * @return the applicable renderer, may be null
+     */
+    public static ArgumentRenderer<Object> lookup(Class<?> type) {
+        ClassValue<ArgumentRenderer<Object>> cache = resolved;
+        if (cache == null) {
+            return null;
+        }
+        ArgumentRenderer<Object> renderer = cache.get(type);
+        return renderer == NONE ? null : renderer;
+    }
+
+    private static ClassValue<ArgumentRenderer<Object>> newCache() {
+        return new ClassValue<ArgumentRenderer<Object>>() {
+            @Override
+            protected ArgumentRenderer<Object> computeValue(Class<?> type) {
+                ArgumentRenderer<Object> renderer = resolve(type);
+                return renderer == null ? NONE : renderer;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentRenderer<Object> resolve(Class<?> type) {
+        if (type.isArray()) {
+            return null;
+        }
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            ArgumentRenderer<?> renderer = REGISTERED.get(c);
+            if (renderer != null) {
+                return (ArgumentRenderer<Object>) renderer;
+            }
+        }
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            ArgumentRenderer<?> renderer = resolveInterfaces(c.getInterfaces());
+            if (renderer != null) {
+                return (ArgumentRenderer<Object>) renderer;
+            }
+        }
+        return null;
+    }
+
+    private static ArgumentRenderer<?> resolveInterfaces(Class<?>[] interfaces) {
+        for (Class<?> i : interfaces) {
+            ArgumentRenderer<?> renderer = REGISTERED.get(i);
+            if (renderer != null) {
+                return renderer;
+            }
+        }
+        for (Class<?> i : interfaces) {
+            ArgumentRenderer<?> renderer = resolveInterfaces(i.getInterfaces());
+            if (renderer != null) {
+                return renderer;
+            }
+        }
+        return null;
+    }
+}
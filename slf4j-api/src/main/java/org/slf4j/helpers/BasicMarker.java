@@ -24,9 +24,13 @@
  */
 package org.slf4j.helpers;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Marker;
 
@@ -42,11 +46,40 @@ public class BasicMarker implements Marker {
     private final String name;
     private final List<Marker> referenceList = new CopyOnWriteArrayList<>();
 
+    // Incremented whenever a reference is added to or removed from any marker. A closure
+    // computed under an older version may be stale and is recomputed on next use.
+    private static final AtomicInteger GRAPH_VERSION = new AtomicInteger();
+
+    // the id allocated by BasicMarkerFactory to markers of this name, -1 if none, reassigned
+    // on deserialization. Markers without id fall back to walking their references.
+    private transient int id;
+
+    // computed on demand by closure()
+    private transient volatile Closure closure;
+
     BasicMarker(String name) {
+        this(name, -1);
+    }
+
+    BasicMarker(String name, int id) {
         if (name == null) {
             throw new IllegalArgumentException("A marker name cannot be null");
         }
         this.name = name;
+        this.id = id;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.id = BasicMarkerFactory.existingMarkerId(name);
+    }
+
+    int getId() {
+        return id;
+    }
+
+    static int graphVersion() {
+        return GRAPH_VERSION.get();
     }
 
     public String getName() {
@@ -67,6 +100,7 @@ public class BasicMarker implements Marker {
             return;
         } else {
             referenceList.add(reference);
+            GRAPH_VERSION.incrementAndGet();
         }
     }
 
@@ -84,7 +118,45 @@ public class BasicMarker implements Marker {
     }
 
     public boolean remove(Marker referenceToRemove) {
-        return referenceList.remove(referenceToRemove);
+        boolean removed = referenceList.remove(referenceToRemove);
+        if (removed) {
+            GRAPH_VERSION.incrementAndGet();
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the transitive closure of this marker, computing it if the
+     * marker graph changed since it was last computed.
+     */
+    Closure closure() {
+        // read the version before the references, a concurrent change then merely causes a recomputation
+        final int version = GRAPH_VERSION.get();
+        Closure c = closure;
+        if (c == null || c.version != version) {
+            c = computeClosure(version);
+            closure = c;
+        }
+        return c;
+    }
+
+    private Closure computeClosure(int version) {
+        if (id < 0) {
+            return new Closure(version, new long[0], false);
+        }
+        long[] bits = Closure.set(new long[(id >>> 6) + 1], id);
+        boolean complete = true;
+        for (Marker ref : referenceList) {
+            if (ref instanceof BasicMarker) {
+                Closure refClosure = ((BasicMarker) ref).closure();
+                bits = Closure.or(bits, refClosure.bits);
+                complete &= refClosure.complete;
+            } else {
+                // the references of other Marker implementations may change unnoticed
+                complete = false;
+            }
+        }
+        return new Closure(version, bits, complete);
     }
 
     public boolean contains(Marker other) {
@@ -92,6 +164,13 @@ public class BasicMarker implements Marker {
             throw new IllegalArgumentException("Other cannot be null");
         }
 
+        Closure c = closure();
+        if (c.complete) {
+            // a detached marker may be equal to a marker having an id
+            int otherId = other instanceof BasicMarker ? ((BasicMarker) other).id : -1;
+            return c.contains(otherId >= 0 ? otherId : BasicMarkerFactory.existingMarkerId(other.getName()));
+        }
+
         if (this.equals(other)) {
             return true;
         }
@@ -114,6 +193,11 @@ public class BasicMarker implements Marker {
             throw new IllegalArgumentException("Other cannot be null");
         }
 
+        Closure c = closure();
+        if (c.complete) {
+            return c.contains(BasicMarkerFactory.existingMarkerId(name));
+        }
+
         if (this.name.equals(name)) {
             return true;
         }
@@ -167,4 +251,55 @@ public class BasicMarker implements Marker {
 
         return sb.toString();
     }
+
+    /**
+     * The ids of the markers a marker is or transitively references, as a
+     * bitset.
+     */
+    static final class Closure {
+
+        final int version;
+        final long[] bits;
+        // false if a marker without id, or other than a BasicMarker, is referenced, directly or not
+        final boolean complete;
+
+        Closure(int version, long[] bits, boolean complete) {
+            this.version = version;
+            this.bits = bits;
+            this.complete = complete;
+        }
+
+        boolean contains(int id) {
+            if (id < 0) {
+                return false;
+            }
+            int word = id >>> 6;
+            return word < bits.length && (bits[word] & (1L << id)) != 0;
+        }
+
+        boolean intersects(long[] other) {
+            int n = Math.min(bits.length, other.length);
+            for (int i = 0; i < n; i++) {
+                if ((bits[i] & other[i]) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        static long[] set(long[] bits, int id) {
+            bits[id >>> 6] |= 1L << id;
+            return bits;
+        }
+
+        static long[] or(long[] bits, long[] other) {
+            if (other.length > bits.length) {
+                bits = Arrays.copyOf(bits, other.length);
+            }
+            for (int i = 0; i < other.length; i++) {
+                bits[i] |= other[i];
+            }
+            return bits;
+        }
+    }
 }
@@ -26,6 +26,7 @@ package org.slf4j.helpers;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.IMarkerFactory;
 import org.slf4j.Marker;
@@ -41,6 +42,19 @@ import org.slf4j.Marker;
  */
 public class BasicMarkerFactory implements IMarkerFactory {
 
+    /**
+     * The number of marker names given an id. Markers of further names, like
+     * detached markers, have no id.
+     */
+    static final int MAX_MARKER_IDS = 4096;
+
+    // Marker ids are shared by all factories, so that markers which are equal, that is
+    // markers of the same name, have the same id. Only markers obtained through
+    // getMarker() are given one, so that detached markers of dynamic names do not fill
+    // the map.
+    private static final ConcurrentMap<String, Integer> ID_MAP = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
     private final ConcurrentMap<String, Marker> markerMap = new ConcurrentHashMap<>();
 
     /**
@@ -66,7 +80,7 @@ public class BasicMarkerFactory implements IMarkerFactory {
 
         Marker marker = markerMap.get(name);
         if (marker == null) {
-            marker = new BasicMarker(name);
+            marker = new BasicMarker(name, markerId(name));
             Marker oldMarker = markerMap.putIfAbsent(name, marker);
             if (oldMarker != null) {
                 marker = oldMarker;
@@ -96,4 +110,32 @@ public class BasicMarkerFactory implements IMarkerFactory {
         return new BasicMarker(name);
     }
 
+    /**
+     * Returns the id of markers of the given name, allocating it on first
+     * request. Ids are small non-negative integers, allocated sequentially,
+     * and are never released. Returns -1 once about {@link #MAX_MARKER_IDS}
+     * ids are allocated, concurrent requests possibly exceeding the bound
+     * slightly.
+     *
+     * @since 2.0.17
+     */
+    static int markerId(String name) {
+        Integer id = ID_MAP.get(name);
+        if (id == null) {
+            id = ID_MAP.computeIfAbsent(name, k -> NEXT_ID.get() < MAX_MARKER_IDS ? NEXT_ID.getAndIncrement() : null);
+        }
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the id of markers of the given name, or -1 if no marker of
+     * that name was given one.
+     *
+     * @since 2.0.17
+     */
+    static int existingMarkerId(String name) {
+        Integer id = ID_MAP.get(name);
+        return id == null ? -1 : id;
+    }
+
 }
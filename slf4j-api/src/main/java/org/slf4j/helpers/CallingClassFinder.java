@@ -0,0 +1,40 @@
+package org.slf4j.helpers;
+
+/**
+ * Finds the class calling into a given class.
+ *
+ * <p>This implementation relies on {@link SecurityManager#getClassContext()}.
+ * On Java 9 and later, it is replaced by an implementation relying on
+ * <code>StackWalker</code>, which does not capture the whole stack.</p>
+ *
+ * @since 2.0.17
+ */
+public final class CallingClassFinder {
+
+    private CallingClassFinder() {
+    }
+
+    /**
+     * Returns the class which called the method of boundary currently executing,
+     * that is, the class of the first frame following the innermost frames of
+     * boundary on the stack of the current thread.
+     *
+     * @param boundary the class whose caller is sought
+     * @return the calling class, null if it cannot be determined
+     */
+    public static Class<?> callerOf(Class<?> boundary) {
+        Util.ClassContextSecurityManager securityManager = Util.getSecurityManager();
+        if (securityManager == null) {
+            return null;
+        }
+        Class<?>[] trace = securityManager.getClassContext();
+        int i = 0;
+        while (i < trace.length && trace[i] != boundary) {
+            i++;
+        }
+        while (i < trace.length && trace[i] == boundary) {
+            i++;
+        }
+        return i < trace.length ? trace[i] : null;
+    }
+}
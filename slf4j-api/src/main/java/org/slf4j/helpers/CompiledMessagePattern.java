@@ -0,0 +1,217 @@
+package org.slf4j.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The parsed form of a message pattern as understood by {@link MessageFormatter}.
+ *
+ * <p>A compiled pattern consists of the literal segments found between
+ * formatting anchors, with escaped delimiters already resolved, together with
+ * the position of each segment in the original pattern. Rendering a compiled
+ * pattern produces exactly the same output as parsing the original pattern on
+ * each call, including the handling of surplus anchors and escapes following
+ * the last substituted anchor.</p>
+ *
+ * <p>A compiled pattern also learns how long its renditions tend to be, see
+ * {@link #capacityHint()}, so that buffers can be sized before rendering
+ * rather than grown along the way.</p>
+ *
+ * <p>Apart from the capacity hint, instances are immutable and can be shared
+ * freely between threads.</p>
+ *
+ * @since 2.0.17
+ */
+final class CompiledMessagePattern {
+
+    // larger buffers are not retained by ThreadLocalBuffer, an occasional huge message
+    // should not cause every later rendition of the pattern to allocate as much
+    static final int MAX_CAPACITY_HINT = ThreadLocalBuffer.MAX_RETAINED_CAPACITY;
+
+    final String messagePattern;
+
+    // segments[k] is the text preceding anchor k, with escapes resolved.
+    // segments[anchorCount] is the text following the last anchor.
+    private final String[] segments;
+
+    // rawStarts[k] is the index within messagePattern where segments[k] begins
+    private final int[] rawStarts;
+
+    private final int anchorCount;
+
+    // Updated without synchronization. Reads and writes of an int are atomic and any
+    // value is acceptable as a hint, so a lost update merely delays adaptation.
+    private int capacityHint;
+
+    private CompiledMessagePattern(String messagePattern, String[] segments, int[] rawStarts) {
+        this.messagePattern = messagePattern;
+        this.segments = segments;
+        this.rawStarts = rawStarts;
+        this.anchorCount = segments.length - 1;
+        // the fixed guess used before hints were learned
+        this.capacityHint = Math.min(messagePattern.length() + 50, MAX_CAPACITY_HINT);
+    }
+
+    static CompiledMessagePattern compile(final String messagePattern) {
+        List<String> segmentList = new ArrayList<>();
+        List<Integer> rawStartList = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        int i = 0;
+        int segmentStart = 0;
+        int j;
+        while ((j = messagePattern.indexOf(MessageFormatter.DELIM_STR, i)) != -1) {
+            if (MessageFormatter.isEscapedDelimeter(messagePattern, j)) {
+                if (!MessageFormatter.isDoubleEscaped(messagePattern, j)) {
+                    // DELIM_START was escaped, the anchor is taken literally
+                    current.append(messagePattern, i, j - 1);
+                    current.append(MessageFormatter.DELIM_START);
+                    i = j + 1;
+                    continue;
+                }
+                // the escape character is itself escaped: "abc x:\\{}"
+                // we have to consume one backward slash
+                current.append(messagePattern, i, j - 1);
+            } else {
+                current.append(messagePattern, i, j);
+            }
+            segmentList.add(current.toString());
+            rawStartList.add(segmentStart);
+            current.setLength(0);
+            i = j + 2;
+            segmentStart = i;
+        }
+
+        if (segmentStart == 0 && i == 0) {
+            // no anchors and no escapes, the whole pattern is a single literal
+            segmentList.add(messagePattern);
+        } else {
+            current.append(messagePattern, i, messagePattern.length());
+            segmentList.add(current.toString());
+        }
+        rawStartList.add(segmentStart);
+
+        int[] rawStarts = new int[rawStartList.size()];
+        for (int k = 0; k < rawStarts.length; k++) {
+            rawStarts[k] = rawStartList.get(k);
+        }
+        return new CompiledMessagePattern(messagePattern, segmentList.toArray(new String[0]), rawStarts);
+    }
+
+    int getAnchorCount() {
+        return anchorCount;
+    }
+
+    /**
+     * Returns the number of characters a rendition of this pattern is expected
+     * to need. The hint follows the upper range of recent rendition lengths: it
+     * moves half way up towards longer renditions and decays slowly, by one
+     * sixteenth of the difference, towards shorter ones.
+     */
+    int capacityHint() {
+        return capacityHint;
+    }
+
+    /**
+     * Takes the length of a rendition of this pattern into account in the
+     * capacity hint.
+     */
+    void recordLength(int length) {
+        final int hint = capacityHint;
+        int next;
+        if (length > hint) {
+            next = Math.min(hint + ((length - hint + 1) >> 1), MAX_CAPACITY_HINT);
+        } else {
+            next = hint - ((hint - length) >> 4);
+        }
+        // avoid writing to a shared field when nothing changes
+        if (next != hint) {
+            capacityHint = next;
+        }
+    }
+
+    /**
+     * Returns the pattern itself if rendering it with the given number of
+     * arguments produces no substitution and no escape resolution, null
+     * otherwise.
+     */
+    String asLiteral(int argCount) {
+        if (argCount == 0 || (anchorCount == 0 && segments[0] == messagePattern)) {
+            return messagePattern;
+        }
+        return null;
+    }
+
+    /**
+     * Appends the pattern to sbuf, substituting the anchors with the elements of
+     * argArray.
+     *
+     * <p>Only as many anchors as there are arguments are substituted. Once all
+     * the arguments are consumed, the remainder of the pattern is appended as is.
+     * With no arguments at all, the pattern is appended verbatim.</p>
+     */
+    void appendTo(StringBuilder sbuf, Object[] argArray) {
+        final int argCount = argArray.length;
+        if (argCount == 0) {
+            sbuf.append(messagePattern);
+            return;
+        }
+
+        final int substitutions = Math.min(argCount, anchorCount);
+        for (int k = 0; k < substitutions; k++) {
+            sbuf.append(segments[k]);
+            MessageFormatter.deeplyAppendParameter(sbuf, argArray[k]);
+        }
+
+        if (argCount > anchorCount) {
+            sbuf.append(segments[anchorCount]);
+        } else {
+            sbuf.append(messagePattern, rawStarts[substitutions], messagePattern.length());
+        }
+    }
+
+    /**
+     * Same as {@link #appendTo(StringBuilder, Object[])} but subject to the
+     * given limits. Once the message exceeds its maximum length, the remaining
+     * arguments are not rendered.
+     */
+    void appendTo(StringBuilder sbuf, Object[] argArray, RenderingLimits limits) {
+        if (limits.isUnlimited()) {
+            appendTo(sbuf, argArray);
+            return;
+        }
+
+        final int messageEnd = RenderingLimits.end(sbuf.length(), limits.maxMessageLength);
+        final int argCount = argArray.length;
+        final int substitutions = Math.min(argCount, anchorCount);
+        for (int k = 0; k < substitutions; k++) {
+            sbuf.append(segments[k]);
+            if (sbuf.length() > messageEnd) {
+                RenderingLimits.truncate(sbuf, messageEnd);
+                return;
+            }
+            MessageFormatter.boundedAppendParameter(sbuf, argArray[k], limits, messageEnd);
+        }
+
+        if (argCount == 0) {
+            sbuf.append(messagePattern);
+        } else if (argCount > anchorCount) {
+            sbuf.append(segments[anchorCount]);
+        } else {
+            sbuf.append(messagePattern, rawStarts[substitutions], messagePattern.length());
+        }
+        RenderingLimits.truncate(sbuf, messageEnd);
+    }
+
+    /**
+     * Appends the part of the pattern preceding the value of a sole argument
+     * and returns the index of the pattern following the first anchor, from
+     * which the pattern is to be appended verbatim after the argument. Returns
+     * -1 if the pattern contains no anchor, in which case the whole pattern
+     * has been appended and the argument must not be rendered.
+     */
+    int appendSingleArgumentPrefix(StringBuilder sbuf) {
+        sbuf.append(segments[0]);
+        return anchorCount > 0 ? rawStarts[1] : -1;
+    }
+}
@@ -0,0 +1,228 @@
+package org.slf4j.helpers;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Marker;
+
+/**
+ * An immutable set of markers, in the order the markers were added, as carried
+ * by logging events.
+ *
+ * <p>Sets are built from {@link #EMPTY} by successive calls to
+ * {@link #with(Marker)}. Sets made of markers obtained from a
+ * {@link BasicMarkerFactory}, that is markers with an id, are interned: adding
+ * the same marker to the same set yields the same instance each time, so that
+ * events carrying a recurring combination of markers share a single set and
+ * allocate nothing. Every set of a single such marker is interned. The number
+ * of interned sets of several markers is bounded, beyond which new sets are
+ * allocated as needed. Sets containing detached or foreign markers are never
+ * interned.</p>
+ *
+ * <p>The markers of a set are identified by their ids, see
+ * {@link BasicMarkerFactory}, which makes {@link #containsAny(MarkerSet)} a
+ * bitset intersection when only {@link BasicMarker} instances obtained from a
+ * factory are involved.</p>
+ *
+ * @since 2.0.17
+ */
+public final class MarkerSet extends AbstractList<Marker> implements RandomAccess {
+
+    static final int MAX_INTERNED_SETS = 1024;
+    static final int MAX_SUCCESSORS = 16;
+
+    private static final AtomicInteger INTERNED_SET_COUNT = new AtomicInteger();
+
+    private static final MarkerSet[] NO_SUCCESSORS = new MarkerSet[0];
+
+    // The sets of a single marker, indexed by marker id. Replaced, never modified, when
+    // a set is added. A marker detached and obtained again, or equal markers of distinct
+    // factories, share an id: the last one interned evicts the previous one.
+    private static volatile MarkerSet[] singletons = NO_SUCCESSORS;
+
+    /**
+     * The empty set.
+     */
+    public static final MarkerSet EMPTY = new MarkerSet(new Marker[0], new long[0], true);
+
+    private final Marker[] markers;
+
+    // ids of the markers of this set, null if one of them is not a BasicMarker with an id
+    private final long[] ids;
+
+    private final boolean interned;
+
+    // The interned sets made of this set, when not empty, and one more marker. First come,
+    // first served, up to MAX_SUCCESSORS. Looked up by identity of
+    // the additional marker, since equal markers may be distinct instances with distinct
+    // references, detached markers for example. Replaced, never modified, when extended.
+    private volatile MarkerSet[] successors = NO_SUCCESSORS;
+
+    // union of the closures of the markers, computed on demand
+    private volatile BasicMarker.Closure closure;
+
+    private MarkerSet(Marker[] markers, long[] ids, boolean interned) {
+        this.markers = markers;
+        this.ids = ids;
+        this.interned = interned;
+    }
+
+    /**
+     * Returns the set containing the given marker only, or {@link #EMPTY} if
+     * marker is null.
+     */
+    public static MarkerSet of(Marker marker) {
+        return EMPTY.with(marker);
+    }
+
+    /**
+     * Returns the set of the given markers, ignoring null elements.
+     */
+    public static MarkerSet of(Marker... markers) {
+        MarkerSet set = EMPTY;
+        for (Marker marker : markers) {
+            set = set.with(marker);
+        }
+        return set;
+    }
+
+    /**
+     * Returns the set made of the markers of this set followed by the given
+     * marker. Returns this set if marker is null or if an equal marker, that is
+     * a marker of the same name, already belongs to this set.
+     */
+    public MarkerSet with(Marker marker) {
+        if (marker == null || indexOf(marker) >= 0) {
+            return this;
+        }
+
+        if (interned && marker instanceof BasicMarker && ((BasicMarker) marker).getId() >= 0) {
+            if (markers.length == 0) {
+                return singleton((BasicMarker) marker);
+            }
+            MarkerSet next = findSuccessor(successors, marker);
+            return next != null ? next : intern(marker);
+        }
+        return append(marker, false);
+    }
+
+    private static MarkerSet singleton(BasicMarker marker) {
+        MarkerSet[] table = singletons;
+        int id = marker.getId();
+        if (id < table.length) {
+            MarkerSet set = table[id];
+            if (set != null && set.markers[0] == marker) {
+                return set;
+            }
+        }
+        return internSingleton(marker);
+    }
+
+    private static synchronized MarkerSet internSingleton(BasicMarker marker) {
+        MarkerSet[] table = singletons;
+        int id = marker.getId();
+        if (id < table.length && table[id] != null && table[id].markers[0] == marker) {
+            return table[id];
+        }
+        MarkerSet set = EMPTY.append(marker, true);
+        MarkerSet[] replaced = Arrays.copyOf(table, Math.max(table.length, id + 1));
+        replaced[id] = set;
+        singletons = replaced;
+        return set;
+    }
+
+    private MarkerSet findSuccessor(MarkerSet[] candidates, Marker marker) {
+        for (MarkerSet candidate : candidates) {
+            if (candidate.markers[markers.length] == marker) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private synchronized MarkerSet intern(Marker marker) {
+        MarkerSet[] current = successors;
+        MarkerSet next = findSuccessor(current, marker);
+        if (next != null) {
+            return next;
+        }
+        if (current.length >= MAX_SUCCESSORS || INTERNED_SET_COUNT.get() >= MAX_INTERNED_SETS) {
+            return append(marker, false);
+        }
+        next = append(marker, true);
+        MarkerSet[] extended = Arrays.copyOf(current, current.length + 1);
+        extended[current.length] = next;
+        successors = extended;
+        INTERNED_SET_COUNT.incrementAndGet();
+        return next;
+    }
+
+    private MarkerSet append(Marker marker, boolean interned) {
+        Marker[] newMarkers = Arrays.copyOf(markers, markers.length + 1);
+        newMarkers[markers.length] = marker;
+        long[] newIds = null;
+        int id = marker instanceof BasicMarker ? ((BasicMarker) marker).getId() : -1;
+        if (ids != null && id >= 0) {
+            newIds = BasicMarker.Closure.set(Arrays.copyOf(ids, Math.max(ids.length, (id >>> 6) + 1)), id);
+        }
+        return new MarkerSet(newMarkers, newIds, interned);
+    }
+
+    @Override
+    public Marker get(int index) {
+        return markers[index];
+    }
+
+    @Override
+    public int size() {
+        return markers.length;
+    }
+
+    /**
+     * Returns true if a marker of this set is, or references, a marker of
+     * other, in the sense of {@link Marker#contains(Marker)}. Filters can thus
+     * match the markers of an event against the set of markers they are
+     * interested in with a single call.
+     *
+     * @param other the markers to look for
+     * @return true if some marker of other is contained in this set
+     */
+    public boolean containsAny(MarkerSet other) {
+        if (markers.length == 0 || other.markers.length == 0) {
+            return false;
+        }
+        if (other.ids != null) {
+            BasicMarker.Closure c = closure();
+            if (c.complete) {
+                return c.intersects(other.ids);
+            }
+        }
+        for (Marker marker : markers) {
+            for (Marker otherMarker : other.markers) {
+                if (marker.contains(otherMarker)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private BasicMarker.Closure closure() {
+        final int version = BasicMarker.graphVersion();
+        BasicMarker.Closure c = closure;
+        if (c == null || c.version != version) {
+            long[] bits = new long[1];
+            boolean complete = ids != null;
+            for (int i = 0; i < markers.length && complete; i++) {
+                BasicMarker.Closure markerClosure = ((BasicMarker) markers[i]).closure();
+                bits = BasicMarker.Closure.or(bits, markerClosure.bits);
+                complete = markerClosure.complete;
+            }
+            c = new BasicMarker.Closure(version, bits, complete);
+            closure = c;
+        }
+        return c;
+    }
+}
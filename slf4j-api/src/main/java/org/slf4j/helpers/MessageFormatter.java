@@ -24,9 +24,14 @@
  */
 package org.slf4j.helpers;
 
+import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.spi.ArgumentRenderer;
 
 // contributors: lizongbo: proposed special treatment of array parameter values
 // Joern Huxhorn: pointed out double[] omission, suggested deep array copy
@@ -101,6 +106,61 @@ final public class MessageFormatter {
     static final String DELIM_STR = "{}";
     private static final char ESCAPE_CHAR = '\\';
 
+    /**
+     * This system property sets the maximum number of compiled message patterns
+     * kept in memory. Patterns are compiled, that is parsed into literal segments
+     * and anchors, the first time they are formatted. Frequently used patterns
+     * are then formatted without being parsed again.
+     *
+     * <p>The value is rounded up to the next power of two. A value of 0 disables
+     * the cache. The default value is 4096.</p>
+     *
+     * @since 2.0.17
+     */
+    public static final String PATTERN_CACHE_CAPACITY_KEY = "slf4j.messageFormatter.patternCacheCapacity";
+
+    /**
+     * This system property sets the maximum number of elements rendered for
+     * an argument which is an array or a {@link java.util.Collection}.
+     * Remaining elements are not visited and are replaced by "...", as in
+     * "[1, 2, 3, ...]".
+     *
+     * <p>A value of 0 or less means no limit, which is the default.</p>
+     *
+     * @since 2.0.17
+     */
+    public static final String MAX_ELEMENTS_KEY = "slf4j.messageFormatter.maxElements";
+
+    /**
+     * This system property sets the maximum number of characters rendered for
+     * a single argument. Longer renditions are cut and followed by "...".
+     * Arrays, and collections when {@value #MAX_ELEMENTS_KEY} is also set,
+     * stop being rendered as soon as the limit is exceeded.
+     *
+     * <p>Other arguments are still converted in full, by their
+     * <code>toString()</code> method or by their {@link ArgumentRenderer},
+     * before being cut: the limit bounds the size of messages, not the cost
+     * of rendering arguments.</p>
+     *
+     * <p>A value of 0 or less means no limit, which is the default.</p>
+     *
+     * @since 2.0.17
+     */
+    public static final String MAX_ARGUMENT_LENGTH_KEY = "slf4j.messageFormatter.maxArgumentLength";
+
+    /**
+     * This system property sets the maximum number of characters of a
+     * formatted message. Longer messages are cut and followed by "...".
+     * Arguments following the cut are not rendered at all.
+     *
+     * <p>A value of 0 or less means no limit, which is the default.</p>
+     *
+     * @since 2.0.17
+     */
+    public static final String MAX_MESSAGE_LENGTH_KEY = "slf4j.messageFormatter.maxMessageLength";
+
+    private static final LongAdder BUFFER_REGROWTHS = new LongAdder();
+
     /**
      * Performs single argument substitution for the 'messagePattern' passed as
      * parameter.
@@ -167,8 +227,10 @@ final public class MessageFormatter {
      * @param argArray
      */
     final public static String basicArrayFormat(final String messagePattern, final Object[] argArray) {
-        FormattingTuple ft = arrayFormat(messagePattern, argArray, null);
-        return ft.getMessage();
+        if (messagePattern == null || argArray == null) {
+            return messagePattern;
+        }
+        return render(messagePattern, argArray);
     }
 
     public static String basicArrayFormat(NormalizedParameters np) {
@@ -185,51 +247,323 @@ final public class MessageFormatter {
             return new FormattingTuple(messagePattern);
         }
 
+        return new FormattingTuple(render(messagePattern, argArray), argArray, throwable);
+    }
+
+    /**
+     * Formats messagePattern and appends the result to sbuf, without creating
+     * any intermediate String. This method produces the same output as
+     * {@link #basicArrayFormat(String, Object[])} and likewise assumes that
+     * argArray does not contain a throwable as last element.
+     *
+     * <p>If messagePattern is null, the string "null" is appended, as would be
+     * the case with {@link StringBuilder#append(String)}.</p>
+     *
+     * @param sbuf the buffer to which the formatted message is appended
+     * @param messagePattern the message pattern which will be parsed and formatted
+     * @param argArray the arguments to be substituted in place of the formatting anchors, may be null
+     * @since 2.0.17
+     */
+    public static void formatTo(StringBuilder sbuf, final String messagePattern, final Object[] argArray) {
+        if (messagePattern == null || argArray == null) {
+            final int start = sbuf.length();
+            sbuf.append(messagePattern);
+            limitMessageLength(sbuf, start);
+            return;
+        }
+        CompiledMessagePattern compiledPattern = MessagePatternCache.INSTANCE.get(messagePattern);
+        if (compiledPattern == null) {
+            appendParsed(sbuf, messagePattern, argArray, RenderingLimits.current);
+            return;
+        }
+        sbuf.ensureCapacity(sbuf.length() + compiledPattern.capacityHint());
+        appendCompiled(sbuf, compiledPattern, argArray, RenderingLimits.current);
+    }
+
+    /**
+     * Formats messagePattern and appends the result to the given
+     * {@link Appendable}. See {@link #formatTo(StringBuilder, String, Object[])}.
+     *
+     * <p>Unless the appendable is a {@link StringBuilder}, the message is first
+     * rendered into a buffer obtained from {@link ThreadLocalBuffer} which is
+     * then appended as a single {@link CharSequence}.</p>
+     *
+     * @param appendable the target to which the formatted message is appended
+     * @param messagePattern the message pattern which will be parsed and formatted
+     * @param argArray the arguments to be substituted in place of the formatting anchors, may be null
+     * @throws IOException if the appendable throws an IOException
+     * @since 2.0.17
+     */
+    public static void formatTo(Appendable appendable, final String messagePattern, final Object[] argArray) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            formatTo((StringBuilder) appendable, messagePattern, argArray);
+            return;
+        }
+        StringBuilder sbuf = ThreadLocalBuffer.acquire();
+        try {
+            formatTo(sbuf, messagePattern, argArray);
+            appendable.append(sbuf);
+        } finally {
+            ThreadLocalBuffer.release(sbuf);
+        }
+    }
+
+    /**
+     * Formats messagePattern with a single <code>long</code> argument and
+     * appends the result to sbuf. The digits of the argument are appended
+     * directly, without boxing the argument or creating an intermediate String.
+     *
+     * <p>The output is identical to that of
+     * {@link #formatTo(StringBuilder, String, Object[])} when passed the boxed
+     * argument.</p>
+     *
+     * @param sbuf the buffer to which the formatted message is appended
+     * @param messagePattern the message pattern which will be parsed and formatted
+     * @param arg the argument to be substituted in place of the first formatting anchor
+     * @since 2.0.17
+     */
+    public static void formatTo(StringBuilder sbuf, final String messagePattern, long arg) {
+        final int start = sbuf.length();
+        final int suffixStart = singleArgumentPrefix(sbuf, messagePattern);
+        if (suffixStart >= 0) {
+            sbuf.append(arg);
+        }
+        singleArgumentSuffix(sbuf, messagePattern, suffixStart, start);
+    }
+
+    /**
+     * See {@link #formatTo(StringBuilder, String, long)}.
+     *
+     * @since 2.0.17
+     */
+    public static void formatTo(StringBuilder sbuf, final String messagePattern, int arg) {
+        final int start = sbuf.length();
+        final int suffixStart = singleArgumentPrefix(sbuf, messagePattern);
+        if (suffixStart >= 0) {
+            sbuf.append(arg);
+        }
+        singleArgumentSuffix(sbuf, messagePattern, suffixStart, start);
+    }
+
+    /**
+     * See {@link #formatTo(StringBuilder, String, long)}.
+     *
+     * @since 2.0.17
+     */
+    public static void formatTo(StringBuilder sbuf, final String messagePattern, float arg) {
+        final int start = sbuf.length();
+        final int suffixStart = singleArgumentPrefix(sbuf, messagePattern);
+        if (suffixStart >= 0) {
+            sbuf.append(arg);
+        }
+        singleArgumentSuffix(sbuf, messagePattern, suffixStart, start);
+    }
+
+    /**
+     * See {@link #formatTo(StringBuilder, String, long)}.
+     *
+     * @since 2.0.17
+     */
+    public static void formatTo(StringBuilder sbuf, final String messagePattern, double arg) {
+        final int start = sbuf.length();
+        final int suffixStart = singleArgumentPrefix(sbuf, messagePattern);
+        if (suffixStart >= 0) {
+            sbuf.append(arg);
+        }
+        singleArgumentSuffix(sbuf, messagePattern, suffixStart, start);
+    }
+
+    /**
+     * See {@link #formatTo(StringBuilder, String, long)}.
+     *
+     * @since 2.0.17
+     */
+    public static void formatTo(StringBuilder sbuf, final String messagePattern, boolean arg) {
+        final int start = sbuf.length();
+        final int suffixStart = singleArgumentPrefix(sbuf, messagePattern);
+        if (suffixStart >= 0) {
+            sbuf.append(arg);
+        }
+        singleArgumentSuffix(sbuf, messagePattern, suffixStart, start);
+    }
+
+    /**
+     * See {@link #formatTo(StringBuilder, String, long)}.
+     *
+     * @since 2.0.17
+     */
+    public static void formatTo(StringBuilder sbuf, final String messagePattern, char arg) {
+        final int start = sbuf.length();
+        final int suffixStart = singleArgumentPrefix(sbuf, messagePattern);
+        if (suffixStart >= 0) {
+            sbuf.append(arg);
+        }
+        singleArgumentSuffix(sbuf, messagePattern, suffixStart, start);
+    }
+
+    // The primitive forms of formatTo() only differ by the append of their argument, which
+    // takes place between these two methods.
+
+    /**
+     * Appends the part of messagePattern preceding its first anchor, escapes
+     * resolved. Returns the index of messagePattern following that anchor if
+     * the argument is to be appended next, -1 if the message is already
+     * complete.
+     */
+    private static int singleArgumentPrefix(StringBuilder sbuf, final String messagePattern) {
+        if (messagePattern == null) {
+            sbuf.append(messagePattern);
+            return -1;
+        }
+        CompiledMessagePattern compiledPattern = MessagePatternCache.INSTANCE.get(messagePattern);
+        if (compiledPattern == null) {
+            return appendUpToAnchor(sbuf, messagePattern, 0);
+        }
+        return compiledPattern.appendSingleArgumentPrefix(sbuf);
+    }
+
+    /**
+     * Completes a message begun by {@link #singleArgumentPrefix(StringBuilder, String)}
+     * at position start of sbuf, suffixStart being the value it returned. As with
+     * the other forms, the pattern following the last substituted anchor is
+     * appended verbatim.
+     */
+    private static void singleArgumentSuffix(StringBuilder sbuf, String messagePattern, int suffixStart, int start) {
+        if (suffixStart >= 0) {
+            sbuf.append(messagePattern, suffixStart, messagePattern.length());
+        }
+        limitMessageLength(sbuf, start);
+    }
+
+    /**
+     * Appends messagePattern with its anchors substituted, parsing it on the
+     * fly. Used for patterns the cache declines to compile, patterns built
+     * dynamically in particular, and produces the same output as
+     * {@link CompiledMessagePattern#appendTo(StringBuilder, Object[], RenderingLimits)}.
+     */
+    private static void appendParsed(StringBuilder sbuf, final String messagePattern, final Object[] argArray, RenderingLimits limits) {
+        final boolean unlimited = limits.isUnlimited();
+        final int messageEnd = unlimited ? Integer.MAX_VALUE : RenderingLimits.end(sbuf.length(), limits.maxMessageLength);
         int i = 0;
-        int j;
-        // use string builder for better multicore performance
-        StringBuilder sbuf = new StringBuilder(messagePattern.length() + 50);
-
-        int L;
-        for (L = 0; L < argArray.length; L++) {
-
-            j = messagePattern.indexOf(DELIM_STR, i);
-
-            if (j == -1) {
-                // no more variables
-                if (i == 0) { // this is a simple string
-                    return new FormattingTuple(messagePattern, argArray, throwable);
-                } else { // add the tail string which contains no variables and return
-                    // the result.
-                    sbuf.append(messagePattern, i, messagePattern.length());
-                    return new FormattingTuple(sbuf.toString(), argArray, throwable);
+        for (int L = 0; L < argArray.length; L++) {
+            i = appendUpToAnchor(sbuf, messagePattern, i);
+            if (i < 0) {
+                // no more anchors, the remainder of the pattern was appended
+                if (!unlimited) {
+                    RenderingLimits.truncate(sbuf, messageEnd);
                 }
+                return;
+            }
+            if (unlimited) {
+                deeplyAppendParameter(sbuf, argArray[L]);
             } else {
-                if (isEscapedDelimeter(messagePattern, j)) {
-                    if (!isDoubleEscaped(messagePattern, j)) {
-                        L--; // DELIM_START was escaped, thus should not be incremented
-                        sbuf.append(messagePattern, i, j - 1);
-                        sbuf.append(DELIM_START);
-                        i = j + 1;
-                    } else {
-                        // The escape character preceding the delimiter start is
-                        // itself escaped: "abc x:\\{}"
-                        // we have to consume one backward slash
-                        sbuf.append(messagePattern, i, j - 1);
-                        deeplyAppendParameter(sbuf, argArray[L], new HashMap<>());
-                        i = j + 2;
-                    }
-                } else {
-                    // normal case
-                    sbuf.append(messagePattern, i, j);
-                    deeplyAppendParameter(sbuf, argArray[L], new HashMap<>());
-                    i = j + 2;
+                if (sbuf.length() > messageEnd) {
+                    RenderingLimits.truncate(sbuf, messageEnd);
+                    return;
                 }
+                boundedAppendParameter(sbuf, argArray[L], limits, messageEnd);
             }
         }
         // append the characters following the last {} pair.
         sbuf.append(messagePattern, i, messagePattern.length());
-        return new FormattingTuple(sbuf.toString(), argArray, throwable);
+        if (!unlimited) {
+            RenderingLimits.truncate(sbuf, messageEnd);
+        }
+    }
+
+    /**
+     * Appends messagePattern from index i up to its next anchor, escaped
+     * anchors resolved, and returns the index following that anchor. If there
+     * is no further anchor, appends the remainder of the pattern and returns
+     * -1.
+     */
+    private static int appendUpToAnchor(StringBuilder sbuf, final String messagePattern, int i) {
+        int j;
+        while ((j = messagePattern.indexOf(DELIM_STR, i)) != -1) {
+            if (!isEscapedDelimeter(messagePattern, j)) {
+                sbuf.append(messagePattern, i, j);
+                return j + 2;
+            }
+            sbuf.append(messagePattern, i, j - 1);
+            if (isDoubleEscaped(messagePattern, j)) {
+                // The escape character preceding the delimiter start is
+                // itself escaped: "abc x:\\{}", one backward slash is consumed
+                return j + 2;
+            }
+            // DELIM_START was escaped, the anchor is taken literally
+            sbuf.append(DELIM_START);
+            i = j + 1;
+        }
+        sbuf.append(messagePattern, i, messagePattern.length());
+        return -1;
+    }
+
+    /**
+     * Appends the rendition of compiledPattern to sbuf, which the caller has
+     * sized according to the capacity hint of the pattern, and feeds the
+     * length of the rendition back into the hint.
+     */
+    private static void appendCompiled(StringBuilder sbuf, CompiledMessagePattern compiledPattern, Object[] argArray, RenderingLimits limits) {
+        final int start = sbuf.length();
+        final int capacity = sbuf.capacity();
+        compiledPattern.appendTo(sbuf, argArray, limits);
+        if (sbuf.capacity() != capacity) {
+            BUFFER_REGROWTHS.increment();
+        }
+        compiledPattern.recordLength(sbuf.length() - start);
+    }
+
+    /**
+     * Returns the number of times, since the class was loaded, a buffer had to
+     * grow while a message was being formatted because the capacity hint of
+     * the message pattern turned out to be too small. A count which keeps
+     * increasing relative to the number of messages formatted indicates that
+     * the lengths of the messages vary widely.
+     *
+     * @return the number of buffer regrowths so far
+     * @since 2.0.17
+     */
+    public static long getBufferRegrowthCount() {
+        return BUFFER_REGROWTHS.sum();
+    }
+
+    private static void limitMessageLength(StringBuilder sbuf, int start) {
+        RenderingLimits.truncate(sbuf, RenderingLimits.end(start, RenderingLimits.current.maxMessageLength));
+    }
+
+    private static String render(final String messagePattern, final Object[] argArray) {
+        CompiledMessagePattern compiledPattern = MessagePatternCache.INSTANCE.get(messagePattern);
+        RenderingLimits limits = RenderingLimits.current;
+        if (compiledPattern == null) {
+            return renderParsed(messagePattern, argArray, limits);
+        }
+        String literal = compiledPattern.asLiteral(argArray.length);
+        if (literal != null && literal.length() <= limits.maxMessageLength) {
+            return literal;
+        }
+
+        // the buffer is reused across calls on the same thread, only the resulting String is allocated
+        StringBuilder sbuf = ThreadLocalBuffer.acquire(compiledPattern.capacityHint());
+        try {
+            appendCompiled(sbuf, compiledPattern, argArray, limits);
+            return sbuf.toString();
+        } finally {
+            ThreadLocalBuffer.release(sbuf);
+        }
+    }
+
+    private static String renderParsed(final String messagePattern, final Object[] argArray, RenderingLimits limits) {
+        if ((argArray.length == 0 || messagePattern.indexOf(DELIM_STR) == -1) && messagePattern.length() <= limits.maxMessageLength) {
+            // nothing to substitute, nor any escape to resolve
+            return messagePattern;
+        }
+        StringBuilder sbuf = ThreadLocalBuffer.acquire(messagePattern.length() + 50);
+        try {
+            appendParsed(sbuf, messagePattern, argArray, limits);
+            return sbuf.toString();
+        } finally {
+            ThreadLocalBuffer.release(sbuf);
+        }
     }
 
     final static boolean isEscapedDelimeter(String messagePattern, int delimeterStartIndex) {
@@ -253,43 +587,93 @@ final public class MessageFormatter {
         }
     }
 
+    static void deeplyAppendParameter(StringBuilder sbuf, Object o) {
+        deeplyAppendParameter(sbuf, o, null, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Appends o subject to the given limits. Rendering of o stops once sbuf
+     * extends beyond messageEnd, or beyond the maximum argument length.
+     */
+    static void boundedAppendParameter(StringBuilder sbuf, Object o, RenderingLimits limits, int messageEnd) {
+        final int end = Math.min(RenderingLimits.end(sbuf.length(), limits.maxArgumentLength), messageEnd);
+        deeplyAppendParameter(sbuf, o, null, limits.maxElements, end);
+        RenderingLimits.truncate(sbuf, end);
+    }
+
     // special treatment of array values was suggested by 'lizongbo'
-    private static void deeplyAppendParameter(StringBuilder sbuf, Object o, Map<Object[], Object> seenMap) {
+    // seenMap tracks the Object[] instances, and the collections rendered element by element,
+    // on the current path for cycle detection. It is only created once one of these is
+    // actually encountered, scalar arguments never need it.
+    // Elements beyond maxElements are skipped, and rendering stops as soon as sbuf extends
+    // beyond end. Integer.MAX_VALUE disables either limit.
+    private static void deeplyAppendParameter(StringBuilder sbuf, Object o, Map<Object, Object> seenMap, int maxElements, int end) {
         if (o == null) {
             sbuf.append("null");
             return;
         }
         if (!o.getClass().isArray()) {
-            safeObjectAppend(sbuf, o);
+            safeObjectAppend(sbuf, o, seenMap, maxElements, end);
         } else {
             // check for primitive array types because they
             // unfortunately cannot be cast to Object[]
             if (o instanceof boolean[]) {
-                booleanArrayAppend(sbuf, (boolean[]) o);
+                booleanArrayAppend(sbuf, (boolean[]) o, maxElements, end);
             } else if (o instanceof byte[]) {
-                byteArrayAppend(sbuf, (byte[]) o);
+                byteArrayAppend(sbuf, (byte[]) o, maxElements, end);
             } else if (o instanceof char[]) {
-                charArrayAppend(sbuf, (char[]) o);
+                charArrayAppend(sbuf, (char[]) o, maxElements, end);
             } else if (o instanceof short[]) {
-                shortArrayAppend(sbuf, (short[]) o);
+                shortArrayAppend(sbuf, (short[]) o, maxElements, end);
             } else if (o instanceof int[]) {
-                intArrayAppend(sbuf, (int[]) o);
+                intArrayAppend(sbuf, (int[]) o, maxElements, end);
             } else if (o instanceof long[]) {
-                longArrayAppend(sbuf, (long[]) o);
+                longArrayAppend(sbuf, (long[]) o, maxElements, end);
             } else if (o instanceof float[]) {
-                floatArrayAppend(sbuf, (float[]) o);
+                floatArrayAppend(sbuf, (float[]) o, maxElements, end);
             } else if (o instanceof double[]) {
-                doubleArrayAppend(sbuf, (double[]) o);
+                doubleArrayAppend(sbuf, (double[]) o, maxElements, end);
             } else {
-                objectArrayAppend(sbuf, (Object[]) o, seenMap);
+                if (seenMap == null) {
+                    seenMap = new IdentityHashMap<>();
+                }
+                objectArrayAppend(sbuf, (Object[]) o, seenMap, maxElements, end);
             }
         }
     }
 
-    private static void safeObjectAppend(StringBuilder sbuf, Object o) {
+    private static boolean isTruncationPoint(StringBuilder sbuf, int index, int maxElements, int end) {
+        if (index == maxElements || sbuf.length() > end) {
+            sbuf.append(RenderingLimits.TRUNCATION_INDICATOR);
+            return true;
+        }
+        return false;
+    }
+
+    private static void safeObjectAppend(StringBuilder sbuf, Object o, Map<Object, Object> seenMap, int maxElements, int end) {
+        ArgumentRenderer<Object> renderer = ArgumentRenderers.lookup(o.getClass());
+        if (renderer != null) {
+            safeRendererAppend(sbuf, o, renderer);
+            return;
+        }
+        if (maxElements != Integer.MAX_VALUE && o instanceof Collection) {
+            // render the collection ourselves in order to stop early, as AbstractCollection.toString() would
+            if (seenMap == null) {
+                seenMap = new IdentityHashMap<>();
+            }
+            collectionAppend(sbuf, (Collection<?>) o, seenMap, maxElements, end);
+            return;
+        }
+        // toString() cannot be interrupted, its result is cut afterwards
         try {
             String oAsString = o.toString();
-            sbuf.append(oAsString);
+            if (end == Integer.MAX_VALUE) {
+                sbuf.append(oAsString);
+            } else {
+                // one character past end is enough for the caller to notice the truncation
+                int room = Math.max(0, end + 1 - sbuf.length());
+                sbuf.append(oAsString, 0, Math.min(oAsString.length(), room));
+            }
         } catch (Throwable t) {
             Reporter.error("Failed toString() invocation on an object of type [" + o.getClass().getName() + "]", t);
             sbuf.append("[FAILED toString()]");
@@ -297,13 +681,54 @@ final public class MessageFormatter {
 
     }
 
-    private static void objectArrayAppend(StringBuilder sbuf, Object[] a, Map<Object[], Object> seenMap) {
+    private static void safeRendererAppend(StringBuilder sbuf, Object o, ArgumentRenderer<Object> renderer) {
+        final int start = sbuf.length();
+        try {
+            renderer.render(sbuf, o);
+        } catch (Throwable t) {
+            Reporter.error("Failed rendering of an object of type [" + o.getClass().getName() + "] by [" + renderer.getClass().getName() + "]", t);
+            // discard whatever the renderer appended before failing
+            sbuf.setLength(start);
+            sbuf.append("[FAILED rendering]");
+        }
+    }
+
+    private static void collectionAppend(StringBuilder sbuf, Collection<?> c, Map<Object, Object> seenMap, int maxElements, int end) {
+        sbuf.append('[');
+        if (!seenMap.containsKey(c)) {
+            seenMap.put(c, null);
+            int i = 0;
+            for (Object element : c) {
+                if (i > 0) {
+                    sbuf.append(", ");
+                }
+                if (isTruncationPoint(sbuf, i, maxElements, end)) {
+                    break;
+                }
+                if (element == c) {
+                    sbuf.append("(this Collection)");
+                } else {
+                    deeplyAppendParameter(sbuf, element, seenMap, maxElements, end);
+                }
+                i++;
+            }
+            seenMap.remove(c);
+        } else {
+            sbuf.append("...");
+        }
+        sbuf.append(']');
+    }
+
+    private static void objectArrayAppend(StringBuilder sbuf, Object[] a, Map<Object, Object> seenMap, int maxElements, int end) {
         sbuf.append('[');
         if (!seenMap.containsKey(a)) {
             seenMap.put(a, null);
             final int len = a.length;
             for (int i = 0; i < len; i++) {
-                deeplyAppendParameter(sbuf, a[i], seenMap);
+                if (isTruncationPoint(sbuf, i, maxElements, end)) {
+                    break;
+                }
+                deeplyAppendParameter(sbuf, a[i], seenMap, maxElements, end);
                 if (i != len - 1)
                     sbuf.append(", ");
             }
@@ -315,10 +740,13 @@ final public class MessageFormatter {
         sbuf.append(']');
     }
 
-    private static void booleanArrayAppend(StringBuilder sbuf, boolean[] a) {
+    private static void booleanArrayAppend(StringBuilder sbuf, boolean[] a, int maxElements, int end) {
         sbuf.append('[');
         final int len = a.length;
         for (int i = 0; i < len; i++) {
+            if (isTruncationPoint(sbuf, i, maxElements, end)) {
+                break;
+            }
             sbuf.append(a[i]);
             if (i != len - 1)
                 sbuf.append(", ");
@@ -326,10 +754,13 @@ final public class MessageFormatter {
         sbuf.append(']');
     }
 
-    private static void byteArrayAppend(StringBuilder sbuf, byte[] a) {
+    private static void byteArrayAppend(StringBuilder sbuf, byte[] a, int maxElements, int end) {
         sbuf.append('[');
         final int len = a.length;
         for (int i = 0; i < len; i++) {
+            if (isTruncationPoint(sbuf, i, maxElements, end)) {
+                break;
+            }
             sbuf.append(a[i]);
             if (i != len - 1)
                 sbuf.append(", ");
@@ -337,10 +768,13 @@ final public class MessageFormatter {
         sbuf.append(']');
     }
 
-    private static void charArrayAppend(StringBuilder sbuf, char[] a) {
+    private static void charArrayAppend(StringBuilder sbuf, char[] a, int maxElements, int end) {
         sbuf.append('[');
         final int len = a.length;
         for (int i = 0; i < len; i++) {
+            if (isTruncationPoint(sbuf, i, maxElements, end)) {
+                break;
+            }
             sbuf.append(a[i]);
             if (i != len - 1)
                 sbuf.append(", ");
@@ -348,10 +782,13 @@ final public class MessageFormatter {
         sbuf.append(']');
     }
 
-    private static void shortArrayAppend(StringBuilder sbuf, short[] a) {
+    private static void shortArrayAppend(StringBuilder sbuf, short[] a, int maxElements, int end) {
         sbuf.append('[');
         final int len = a.length;
         for (int i = 0; i < len; i++) {
+            if (isTruncationPoint(sbuf, i, maxElements, end)) {
+                break;
+            }
             sbuf.append(a[i]);
             if (i != len - 1)
                 sbuf.append(", ");
@@ -359,10 +796,13 @@ final public class MessageFormatter {
         sbuf.append(']');
     }
 
-    private static void intArrayAppend(StringBuilder sbuf, int[] a) {
+    private static void intArrayAppend(StringBuilder sbuf, int[] a, int maxElements, int end) {
         sbuf.append('[');
         final int len = a.length;
         for (int i = 0; i < len; i++) {
+            if (isTruncationPoint(sbuf, i, maxElements, end)) {
+                break;
+            }
             sbuf.append(a[i]);
             if (i != len - 1)
                 sbuf.append(", ");
@@ -370,10 +810,13 @@ final public class MessageFormatter {
         sbuf.append(']');
     }
 
-    private static void longArrayAppend(StringBuilder sbuf, long[] a) {
+    private static void longArrayAppend(StringBuilder sbuf, long[] a, int maxElements, int end) {
         sbuf.append('[');
         final int len = a.length;
         for (int i = 0; i < len; i++) {
+            if (isTruncationPoint(sbuf, i, maxElements, end)) {
+                break;
+            }
             sbuf.append(a[i]);
             if (i != len - 1)
                 sbuf.append(", ");
@@ -381,10 +824,13 @@ final public class MessageFormatter {
         sbuf.append(']');
     }
 
-    private static void floatArrayAppend(StringBuilder sbuf, float[] a) {
+    private static void floatArrayAppend(StringBuilder sbuf, float[] a, int maxElements, int end) {
         sbuf.append('[');
         final int len = a.length;
         for (int i = 0; i < len; i++) {
+            if (isTruncationPoint(sbuf, i, maxElements, end)) {
+                break;
+            }
             sbuf.append(a[i]);
             if (i != len - 1)
                 sbuf.append(", ");
@@ -392,10 +838,13 @@ final public class MessageFormatter {
         sbuf.append(']');
     }
 
-    private static void doubleArrayAppend(StringBuilder sbuf, double[] a) {
+    private static void doubleArrayAppend(StringBuilder sbuf, double[] a, int maxElements, int end) {
         sbuf.append('[');
         final int len = a.length;
         for (int i = 0; i < len; i++) {
+            if (isTruncationPoint(sbuf, i, maxElements, end)) {
+                break;
+            }
             sbuf.append(a[i]);
             if (i != len - 1)
                 sbuf.append(", ");
@@ -0,0 +1,114 @@
+package org.slf4j.helpers;
+
+/**
+ * A bounded cache of {@link CompiledMessagePattern} instances keyed by the
+ * identity of the message pattern.
+ *
+ * <p>Message patterns are almost always string literals, hence shared
+ * instances. Keying on identity makes a lookup cost one identity hash and one
+ * reference comparison, regardless of the length of the pattern.</p>
+ *
+ * <p>Patterns which are not literals, concatenated or read from a file for
+ * instance, are new instances on each call and would never be found again.
+ * Hence a pattern is only compiled and cached the second time the same
+ * instance is looked up. A pattern seen for the first time is reported as
+ * missing, and the caller renders it by parsing it on the fly, see
+ * {@link MessageFormatter}. Each slot remembers the identity hash code of the
+ * last pattern it missed for that purpose.</p>
+ *
+ * <p>The cache is direct-mapped: each pattern can only occupy the slot
+ * designated by its identity hash code, and a pattern admitted to an already
+ * occupied slot evicts the previous occupant. Dynamic patterns, never seen
+ * twice, thus never evict anything. Slots are read and written without
+ * locking. This is safe because the fields describing the structure of a
+ * compiled pattern are final; a racing reader either sees a fully constructed
+ * structure or misses and renders the pattern without it. Racy updates of the
+ * remembered hash codes merely delay the admission of a pattern.</p>
+ *
+ * <p>Compiled patterns are not entirely immutable though: their capacity hint
+ * is a plain int field, written by every thread rendering the pattern without
+ * any synchronization. These races are benign. Int writes are atomic, so a
+ * reader sees some value that was written, or the default of zero through a
+ * racily published instance, and the hint only sizes buffers: a stale or lost
+ * value costs at most a buffer resize, never a wrong rendition.</p>
+ *
+ * @since 2.0.17
+ */
+final class MessagePatternCache {
+
+    static final int DEFAULT_CAPACITY = 4096;
+
+    // patterns longer than this are most likely built dynamically and are not worth keeping
+    static final int MAX_CACHEABLE_PATTERN_LENGTH = 2048;
+
+    static final MessagePatternCache INSTANCE = new MessagePatternCache(initCapacity());
+
+    private final CompiledMessagePattern[] slots;
+    // identity hash code of the pattern last missed in each slot
+    private final int[] missedHashes;
+    private final int mask;
+
+    MessagePatternCache(int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            this.slots = null;
+            this.missedHashes = null;
+            this.mask = 0;
+        } else {
+            int capacity = Integer.highestOneBit(requestedCapacity);
+            if (capacity < requestedCapacity) {
+                capacity <<= 1;
+            }
+            this.slots = new CompiledMessagePattern[capacity];
+            this.missedHashes = new int[capacity];
+            this.mask = capacity - 1;
+        }
+    }
+
+    static private int initCapacity() {
+        String capacityStr = Util.safeGetSystemProperty(MessageFormatter.PATTERN_CACHE_CAPACITY_KEY);
+        if (capacityStr == null || capacityStr.isEmpty()) {
+            return DEFAULT_CAPACITY;
+        }
+        try {
+            return Math.min(Integer.parseInt(capacityStr.trim()), 1 << 20);
+        } catch (NumberFormatException e) {
+            Reporter.warn("Ignoring invalid value [" + capacityStr + "] for " + MessageFormatter.PATTERN_CACHE_CAPACITY_KEY);
+            return DEFAULT_CAPACITY;
+        }
+    }
+
+    /**
+     * Returns the compiled form of messagePattern, compiling it and caching the
+     * result if the same instance was looked up before. Returns null if the
+     * pattern is not to be compiled, in which case the caller parses it on the
+     * fly.
+     */
+    CompiledMessagePattern get(final String messagePattern) {
+        if (slots == null) {
+            return null;
+        }
+
+        final int hash = System.identityHashCode(messagePattern);
+        final int index = hash & mask;
+        CompiledMessagePattern compiled = slots[index];
+        if (compiled != null && compiled.messagePattern == messagePattern) {
+            return compiled;
+        }
+        if (messagePattern.length() > MAX_CACHEABLE_PATTERN_LENGTH) {
+            return null;
+        }
+        if (missedHashes[index] != hash) {
+            // first sighting, most likely of a pattern built dynamically
+            missedHashes[index] = hash;
+            return null;
+        }
+
+        compiled = CompiledMessagePattern.compile(messagePattern);
+        slots[index] = compiled;
+        return compiled;
+    }
+
+    int capacity() {
+        return slots == null ? 0 : slots.length;
+    }
+}
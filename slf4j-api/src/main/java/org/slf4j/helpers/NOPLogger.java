@@ -96,6 +96,42 @@ public class NOPLogger extends NamedLoggerBase implements Logger {
         // NOP
     }
 
+    /** A NOP implementation. */
+    @Override
+    final public void trace(String format, int arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void trace(String format, long arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void trace(String format, float arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void trace(String format, double arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void trace(String format, boolean arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void trace(String format, char arg) {
+        // NOP
+    }
+
     /**
      * Always returns false.
      * @return always false
@@ -129,6 +165,42 @@ public class NOPLogger extends NamedLoggerBase implements Logger {
         // NOP
     }
 
+    /** A NOP implementation. */
+    @Override
+    final public void debug(String format, int arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void debug(String format, long arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void debug(String format, float arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void debug(String format, double arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void debug(String format, boolean arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void debug(String format, char arg) {
+        // NOP
+    }
+
     /**
      * Always returns false.
      * @return always false
@@ -163,6 +235,42 @@ public class NOPLogger extends NamedLoggerBase implements Logger {
         // NOP
     }
 
+    /** A NOP implementation. */
+    @Override
+    final public void info(String format, int arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void info(String format, long arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void info(String format, float arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void info(String format, double arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void info(String format, boolean arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void info(String format, char arg) {
+        // NOP
+    }
+
     /**
      * Always returns false.
      * @return always false
@@ -196,6 +304,42 @@ public class NOPLogger extends NamedLoggerBase implements Logger {
         // NOP
     }
 
+    /** A NOP implementation. */
+    @Override
+    final public void warn(String format, int arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void warn(String format, long arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void warn(String format, float arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void warn(String format, double arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void warn(String format, boolean arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void warn(String format, char arg) {
+        // NOP
+    }
+
     /** A NOP implementation. */
     final public boolean isErrorEnabled() {
         return false;
@@ -226,6 +370,42 @@ public class NOPLogger extends NamedLoggerBase implements Logger {
         // NOP
     }
 
+    /** A NOP implementation. */
+    @Override
+    final public void error(String format, int arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void error(String format, long arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void error(String format, float arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void error(String format, double arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void error(String format, boolean arg) {
+        // NOP
+    }
+
+    /** A NOP implementation. */
+    @Override
+    final public void error(String format, char arg) {
+        // NOP
+    }
+
     // ============================================================
     // Added NOP methods since MarkerIgnoringBase is now deprecated
     // ============================================================
@@ -0,0 +1,85 @@
+package org.slf4j.helpers;
+
+/**
+ * The limits applied by {@link MessageFormatter} when rendering messages, see
+ * {@link MessageFormatter#MAX_ELEMENTS_KEY},
+ * {@link MessageFormatter#MAX_ARGUMENT_LENGTH_KEY} and
+ * {@link MessageFormatter#MAX_MESSAGE_LENGTH_KEY}.
+ *
+ * <p>Absent limits are represented by {@link Integer#MAX_VALUE}, which allows
+ * the rendering code to test them unconditionally.</p>
+ *
+ * @since 2.0.17
+ */
+final class RenderingLimits {
+
+    static final String TRUNCATION_INDICATOR = "...";
+
+    static final RenderingLimits UNLIMITED = new RenderingLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    // replaced by tests only
+    static volatile RenderingLimits current = fromSystemProperties();
+
+    final int maxElements;
+    final int maxArgumentLength;
+    final int maxMessageLength;
+
+    RenderingLimits(int maxElements, int maxArgumentLength, int maxMessageLength) {
+        this.maxElements = maxElements;
+        this.maxArgumentLength = maxArgumentLength;
+        this.maxMessageLength = maxMessageLength;
+    }
+
+    boolean isUnlimited() {
+        return maxElements == Integer.MAX_VALUE && maxArgumentLength == Integer.MAX_VALUE && maxMessageLength == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the index in a buffer beyond which output is truncated, given
+     * the index at which output started and the maximum length allowed.
+     */
+    static int end(int start, int maxLength) {
+        if (maxLength == Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) Math.min((long) start + maxLength, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Cuts sbuf down to end characters and appends the truncation indicator,
+     * if sbuf is longer than end. A surrogate pair straddling end is dropped
+     * as a whole.
+     */
+    static void truncate(StringBuilder sbuf, int end) {
+        if (sbuf.length() <= end) {
+            return;
+        }
+        if (end > 0 && Character.isHighSurrogate(sbuf.charAt(end - 1))) {
+            end--;
+        }
+        sbuf.setLength(end);
+        sbuf.append(TRUNCATION_INDICATOR);
+    }
+
+    static RenderingLimits fromSystemProperties() {
+        int maxElements = readLimit(MessageFormatter.MAX_ELEMENTS_KEY);
+        int maxArgumentLength = readLimit(MessageFormatter.MAX_ARGUMENT_LENGTH_KEY);
+        int maxMessageLength = readLimit(MessageFormatter.MAX_MESSAGE_LENGTH_KEY);
+        RenderingLimits limits = new RenderingLimits(maxElements, maxArgumentLength, maxMessageLength);
+        return limits.isUnlimited() ? UNLIMITED : limits;
+    }
+
+    private static int readLimit(String key) {
+        String valueStr = Util.safeGetSystemProperty(key);
+        if (valueStr == null || valueStr.isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            int value = Integer.parseInt(valueStr.trim());
+            return value > 0 ? value : Integer.MAX_VALUE;
+        } catch (NumberFormatException e) {
+            Reporter.warn("Ignoring invalid value [" + valueStr + "] for " + key);
+            return Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.slf4j.helpers;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Decides which of the events logged at a call site are actually logged, see
+ * {@link org.slf4j.spi.LoggingEventBuilder#sample(Sampler)}.
+ *
+ * <p>A sampler keeps the state of a single call site, or of a single key, and
+ * is meant to be held in a static field:</p>
+ *
+ * <pre>
+ * private static final Sampler TIMEOUTS = Sampler.tokenBucket(10, 100);
+ * ...
+ * logger.atError().sample(TIMEOUTS).setCause(e).log("Call to {} timed out", endpoint);
+ * </pre>
+ *
+ * <p>Samplers are thread-safe and take their decisions without locking. They
+ * count the events they drop; the count is reported with the next event they
+ * let through, as the value of the {@link #SUPPRESSED_KEY} key.</p>
+ *
+ * @since 2.0.17
+ */
+public abstract class Sampler {
+
+    /**
+     * The key under which the number of events dropped since the previous
+     * logged event is added to the next logged event.
+     */
+    public static final String SUPPRESSED_KEY = "suppressed";
+
+    /**
+     * The value returned by {@link #sample()} for an event to drop.
+     */
+    public static final long DROP = -1;
+
+    private final AtomicLong suppressed = new AtomicLong();
+
+    protected Sampler() {
+    }
+
+    /**
+     * Returns a sampler letting through the first event and every n-th event
+     * thereafter.
+     *
+     * @param n the sampling period, at least 1
+     */
+    public static Sampler everyNth(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be at least 1, was " + n);
+        }
+        return new EveryNth(n);
+    }
+
+    /**
+     * Returns a sampler letting through each event with the given probability,
+     * independently of the other events.
+     *
+     * @param probability a value between 0 and 1
+     */
+    public static Sampler withProbability(double probability) {
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("probability must be between 0 and 1, was " + probability);
+        }
+        return new Probabilistic(probability);
+    }
+
+    /**
+     * Returns a sampler letting through at most burst events at once, and
+     * permitsPerSecond events per second on average.
+     *
+     * @param permitsPerSecond the sustained rate, greater than 0
+     * @param burst the number of events let through in a row after a quiet period, at least 1
+     */
+    public static Sampler tokenBucket(double permitsPerSecond, int burst) {
+        return new TokenBucket(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * Returns a set of samplers, one per key, created by the given factory as
+     * keys are first met. See {@link PerKey}.
+     *
+     * @param factory creates the sampler of a key
+     */
+    public static <K> PerKey<K> perKey(Supplier<? extends Sampler> factory) {
+        return new PerKey<>(factory, PerKey.DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * Decides the fate of an event.
+     *
+     * @return {@link #DROP} if the event is to be dropped, otherwise the number
+     *         of events dropped since the previous event let through
+     */
+    public final long sample() {
+        if (!admit()) {
+            suppressed.incrementAndGet();
+            return DROP;
+        }
+        // cheap read first, most events follow an event which was let through
+        return suppressed.get() == 0 ? 0 : suppressed.getAndSet(0);
+    }
+
+    /**
+     * Returns true if the current event is to be logged.
+     */
+    protected abstract boolean admit();
+
+    /**
+     * Samplers by key, for call sites whose events should be limited per
+     * value of some attribute, the remote endpoint for example, rather than
+     * as a whole.
+     *
+     * <p>The number of distinct keys is bounded; beyond the bound, the
+     * remaining keys share a single sampler.</p>
+     *
+     * @param <K> the type of the keys
+     */
+    public static final class PerKey<K> {
+
+        static final int DEFAULT_MAX_KEYS = 1024;
+
+        private final ConcurrentMap<K, Sampler> samplers = new ConcurrentHashMap<>();
+        private final Supplier<? extends Sampler> factory;
+        private final int maxKeys;
+        private final Sampler overflow;
+
+        PerKey(Supplier<? extends Sampler> factory, int maxKeys) {
+            this.factory = factory;
+            this.maxKeys = maxKeys;
+            this.overflow = factory.get();
+        }
+
+        /**
+         * Returns the sampler of the given key.
+         */
+        public Sampler forKey(K key) {
+            Sampler sampler = samplers.get(key);
+            if (sampler != null) {
+                return sampler;
+            }
+            if (samplers.size() >= maxKeys) {
+                return overflow;
+            }
+            return samplers.computeIfAbsent(key, k -> factory.get());
+        }
+    }
+
+    static final class EveryNth extends Sampler {
+
+        private final int n;
+        private final AtomicLong count = new AtomicLong();
+
+        EveryNth(int n) {
+            this.n = n;
+        }
+
+        @Override
+        protected boolean admit() {
+            return count.getAndIncrement() % n == 0;
+        }
+    }
+
+    static final class Probabilistic extends Sampler {
+
+        private final double probability;
+
+        Probabilistic(double probability) {
+            this.probability = probability;
+        }
+
+        @Override
+        protected boolean admit() {
+            return ThreadLocalRandom.current().nextDouble() < probability;
+        }
+    }
+
+    /**
+     * A token bucket expressed as the time at which the bucket will be full
+     * again, following the generic cell rate algorithm, so that its whole
+     * state fits in a single atomic variable.
+     */
+    static final class TokenBucket extends Sampler {
+
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final LongSupplier nanoClock;
+
+        // the time at which the bucket would be full again, were no more events admitted
+        private final AtomicLong fullAt;
+
+        TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+            if (!(permitsPerSecond > 0)) {
+                throw new IllegalArgumentException("permitsPerSecond must be greater than 0, was " + permitsPerSecond);
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be at least 1, was " + burst);
+            }
+            this.intervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+            this.toleranceNanos = intervalNanos * burst;
+            this.nanoClock = nanoClock;
+            this.fullAt = new AtomicLong(nanoClock.getAsLong());
+        }
+
+        @Override
+        protected boolean admit() {
+            long now = nanoClock.getAsLong();
+            while (true) {
+                long current = fullAt.get();
+                // tokens do not accumulate beyond a full bucket
+                long next = Math.max(current - now, 0) + intervalNanos;
+                if (next > toleranceNanos) {
+                    return false;
+                }
+                if (fullAt.compareAndSet(current, now + next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -24,8 +24,12 @@
  */
 package org.slf4j.helpers;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
 import java.util.Queue;
 
 import org.slf4j.Logger;
@@ -34,6 +38,7 @@ import org.slf4j.event.EventRecordingLogger;
 import org.slf4j.event.Level;
 import org.slf4j.event.LoggingEvent;
 import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.spi.LoggingEventAware;
 import org.slf4j.spi.LoggingEventBuilder;
 
 /**
@@ -50,17 +55,48 @@ public class SubstituteLogger implements Logger {
 
     private final String name;
     private volatile Logger _delegate;
-    private Boolean delegateEventAware;
-    private Method logMethodCache;
-    private EventRecordingLogger eventRecordingLogger;
+    // how events are logged through the delegate it designates, replaced when the delegate changes
+    private volatile EventDispatch eventDispatch;
+    // null if created post initialization
+    private final EventRecordingLogger eventRecordingLogger;
     private final Queue<SubstituteLoggingEvent> eventQueue;
 
     public final boolean createdPostInitialization;
 
+    private static final MethodType LOG_METHOD_TYPE = MethodType.methodType(void.class, Logger.class, LoggingEvent.class);
+
+    // The public log(LoggingEvent) method of logger classes which do not implement LoggingEventAware
+    // but predate it, looked up once per class. The method is looked up in the closest public class,
+    // as with anonymous subclasses it may not be accessible through the class itself.
+    private static final ClassValue<Optional<MethodHandle>> LOG_METHOD_HANDLES = new ClassValue<Optional<MethodHandle>>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            try {
+                type.getMethod("log", LoggingEvent.class);
+            } catch (NoSuchMethodException e) {
+                return Optional.empty();
+            }
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                if (Modifier.isPublic(c.getModifiers())) {
+                    try {
+                        Method method = c.getMethod("log", LoggingEvent.class);
+                        return Optional.of(MethodHandles.publicLookup().unreflect(method).asType(LOG_METHOD_TYPE));
+                    } catch (NoSuchMethodException | IllegalAccessException e) {
+                        break;
+                    }
+                }
+            }
+            Reporter.warn("The log(LoggingEvent) method of " + type.getName() + " is not accessible, events will not be replayed");
+            return Optional.empty();
+        }
+    };
+
     public SubstituteLogger(String name, Queue<SubstituteLoggingEvent> eventQueue, boolean createdPostInitialization) {
         this.name = name;
         this.eventQueue = eventQueue;
         this.createdPostInitialization = createdPostInitialization;
+        // created upfront rather than on first use, so that concurrent first uses need no coordination
+        this.eventRecordingLogger = createdPostInitialization ? null : new EventRecordingLogger(this, eventQueue);
     }
 
     @Override
@@ -112,6 +148,36 @@ public class SubstituteLogger implements Logger {
     public void trace(String msg, Throwable t) {
         delegate().trace(msg, t);
     }
+
+    @Override
+    public void trace(String format, int arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, long arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, float arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, double arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, boolean arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, char arg) {
+        delegate().trace(format, arg);
+    }
     
     @Override
     public boolean isTraceEnabled(Marker marker) {
@@ -175,6 +241,36 @@ public class SubstituteLogger implements Logger {
     public void debug(String msg, Throwable t) {
         delegate().debug(msg, t);
     }
+
+    @Override
+    public void debug(String format, int arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, long arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, float arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, double arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, boolean arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, char arg) {
+        delegate().debug(format, arg);
+    }
     
     @Override
     public boolean isDebugEnabled(Marker marker) {
@@ -241,6 +337,36 @@ public class SubstituteLogger implements Logger {
     public void info(String msg, Throwable t) {
         delegate().info(msg, t);
     }
+
+    @Override
+    public void info(String format, int arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, long arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, float arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, double arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, boolean arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, char arg) {
+        delegate().info(format, arg);
+    }
     
     @Override
     public boolean isInfoEnabled(Marker marker) {
@@ -308,6 +434,36 @@ public class SubstituteLogger implements Logger {
         delegate().warn(msg, t);
     }
 
+    @Override
+    public void warn(String format, int arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, long arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, float arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, double arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, boolean arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, char arg) {
+        delegate().warn(format, arg);
+    }
+
     public boolean isWarnEnabled(Marker marker) {
         return delegate().isWarnEnabled(marker);
     }
@@ -373,6 +529,36 @@ public class SubstituteLogger implements Logger {
     public void error(String msg, Throwable t) {
         delegate().error(msg, t);
     }
+
+    @Override
+    public void error(String format, int arg) {
+        delegate().error(format, arg);
+    }
+
+    @Override
+    public void error(String format, long arg) {
+        delegate().error(format, arg);
+    }
+
+    @Override
+    public void error(String format, float arg) {
+        delegate().error(format, arg);
+    }
+
+    @Override
+    public void error(String format, double arg) {
+        delegate().error(format, arg);
+    }
+
+    @Override
+    public void error(String format, boolean arg) {
+        delegate().error(format, arg);
+    }
+
+    @Override
+    public void error(String format, char arg) {
+        delegate().error(format, arg);
+    }
     
     @Override
     public boolean isErrorEnabled(Marker marker) {
@@ -434,23 +620,17 @@ public class SubstituteLogger implements Logger {
      * instance.
      */
     public Logger delegate() {
-        if (_delegate != null) {
-            return _delegate;
+        Logger delegate = _delegate;
+        if (delegate != null) {
+            return delegate;
         }
         if (createdPostInitialization) {
             return NOPLogger.NOP_LOGGER;
         } else {
-            return getEventRecordingLogger();
+            return eventRecordingLogger;
         }
     }
 
-    private Logger getEventRecordingLogger() {
-        if (eventRecordingLogger == null) {
-            eventRecordingLogger = new EventRecordingLogger(this, eventQueue);
-        }
-        return eventRecordingLogger;
-    }
-
     /**
      * Typically called after the {@link org.slf4j.LoggerFactory} initialization phase is completed.
      * @param delegate
@@ -459,27 +639,65 @@ public class SubstituteLogger implements Logger {
         this._delegate = delegate;
     }
 
-    public boolean isDelegateEventAware() {
-        if (delegateEventAware != null)
-            return delegateEventAware;
+    /**
+     * How events are logged through a given delegate. Instances are immutable,
+     * so that threads racing to compute the dispatch of the same delegate
+     * agree on the outcome without locking.
+     */
+    private static final class EventDispatch {
+        final Logger delegate;
+        final boolean eventAware;
+        // the log(LoggingEvent) method of a delegate not implementing LoggingEventAware
+        final MethodHandle logMethodHandle;
 
-        try {
-            logMethodCache = _delegate.getClass().getMethod("log", LoggingEvent.class);
-            delegateEventAware = Boolean.TRUE;
-        } catch (NoSuchMethodException e) {
-            delegateEventAware = Boolean.FALSE;
+        EventDispatch(Logger delegate) {
+            this.delegate = delegate;
+            if (delegate instanceof LoggingEventAware) {
+                this.logMethodHandle = null;
+                this.eventAware = true;
+            } else {
+                this.logMethodHandle = LOG_METHOD_HANDLES.get(delegate.getClass()).orElse(null);
+                this.eventAware = logMethodHandle != null;
+            }
         }
-        return delegateEventAware;
     }
-    
+
+    private EventDispatch eventDispatch() {
+        Logger delegate = _delegate;
+        EventDispatch dispatch = eventDispatch;
+        if (dispatch == null || dispatch.delegate != delegate) {
+            dispatch = new EventDispatch(delegate);
+            eventDispatch = dispatch;
+        }
+        return dispatch;
+    }
+
+    public boolean isDelegateEventAware() {
+        return eventDispatch().eventAware;
+    }
+
+    /**
+     * Logs the given event through the delegate, if the delegate is able to
+     * log events, see {@link #isDelegateEventAware()}. Exceptions thrown by
+     * the delegate are propagated.
+     *
+     * @param event the event to log
+     */
     public void log(LoggingEvent event) {
-        if (isDelegateEventAware()) {
-            try {
-                logMethodCache.invoke(_delegate, event);
-            } catch (IllegalAccessException e) {
-            } catch (IllegalArgumentException e) {
-            } catch (InvocationTargetException e) {
-            }
+        EventDispatch dispatch = eventDispatch();
+        if (!dispatch.eventAware) {
+            return;
+        }
+        if (dispatch.logMethodHandle == null) {
+            ((LoggingEventAware) dispatch.delegate).log(event);
+            return;
+        }
+        try {
+            dispatch.logMethodHandle.invokeExact(dispatch.delegate, event);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to log event via " + dispatch.delegate.getClass().getName(), t);
         }
     }
 
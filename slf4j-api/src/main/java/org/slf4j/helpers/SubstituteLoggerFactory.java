@@ -26,17 +26,22 @@ package org.slf4j.helpers;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.slf4j.ILoggerFactory;
 import org.slf4j.Logger;
+import org.slf4j.event.SubstituteEventQueue;
 import org.slf4j.event.SubstituteLoggingEvent;
 
 /**
  * SubstituteLoggerFactory manages instances of {@link SubstituteLogger}.
  *
+ * <p>The events recorded by these loggers are held in a
+ * {@link SubstituteEventQueue}, whose capacity and recording level are set by
+ * system properties.</p>
+ *
  * @author Ceki G&uuml;lc&uuml;
  * @author Chetan Mehrotra
  */
@@ -44,19 +49,32 @@ public class SubstituteLoggerFactory implements ILoggerFactory {
 
     volatile boolean postInitialization = false;
 
-    final Map<String, SubstituteLogger> loggers = new ConcurrentHashMap<>();
+    // the factory substitute loggers delegate to, once initialization is complete
+    private volatile ILoggerFactory delegateFactory;
+
+    final ConcurrentMap<String, SubstituteLogger> loggers = new ConcurrentHashMap<>();
 
-    final LinkedBlockingQueue<SubstituteLoggingEvent> eventQueue = new LinkedBlockingQueue<>();
+    final SubstituteEventQueue eventQueue = SubstituteEventQueue.fromSystemProperties();
 
-    synchronized public Logger getLogger(String name) {
+    public Logger getLogger(String name) {
+        // lock-free for existing loggers, which is the common case
         SubstituteLogger logger = loggers.get(name);
         if (logger == null) {
-            logger = new SubstituteLogger(name, eventQueue, postInitialization);
-            loggers.put(name, logger);
+            logger = loggers.computeIfAbsent(name, this::newSubstituteLogger);
+        }
+        // A logger created while the loggers are being fixed may be missed by the fixing
+        // thread, in which case the delegate factory is necessarily visible here.
+        ILoggerFactory factory = delegateFactory;
+        if (factory != null && logger.isDelegateNull()) {
+            logger.setDelegate(factory.getLogger(name));
         }
         return logger;
     }
 
+    private SubstituteLogger newSubstituteLogger(String name) {
+        return new SubstituteLogger(name, eventQueue, postInitialization);
+    }
+
     public List<String> getLoggerNames() {
         return new ArrayList<>(loggers.keySet());
     }
@@ -69,11 +87,37 @@ public class SubstituteLoggerFactory implements ILoggerFactory {
         return eventQueue;
     }
 
+    /**
+     * Returns the number of events which were not recorded, as per the
+     * overflow policy of the event queue.
+     *
+     * @since 2.0.17
+     */
+    public long getDroppedEventCount() {
+        return eventQueue.getDroppedEventCount();
+    }
+
     public void postInitialization() {
         postInitialization = true;
     }
 
+    /**
+     * Marks the end of the initialization phase, after which loggers obtained
+     * from this factory get their delegate from delegateFactory right away.
+     * The delegates of the loggers obtained so far are to be set by the
+     * caller, after invoking this method.
+     *
+     * @param delegateFactory the factory of the delegates
+     * @since 2.0.17
+     */
+    public void postInitialization(ILoggerFactory delegateFactory) {
+        this.delegateFactory = delegateFactory;
+        postInitialization = true;
+    }
+
     public void clear() {
+        // delegateFactory is retained for loggers still being created by threads
+        // which found initialization ongoing
         loggers.clear();
         eventQueue.clear();
     }
@@ -0,0 +1,78 @@
+package org.slf4j.helpers;
+
+/**
+ * Hands out per-thread {@link StringBuilder} instances which can be reused
+ * from one logging call to the next.
+ *
+ * <p>A buffer is obtained with {@link #acquire()} and should be given back
+ * with {@link #release(StringBuilder)} once its contents have been consumed.
+ * While a buffer is acquired, it is not visible to other callers on the same
+ * thread. Consequently, nested acquisitions, for example when the
+ * <code>toString()</code> method of an argument logs in turn, obtain a fresh
+ * buffer instead of corrupting the one in use.</p>
+ *
+ * <p>A buffer which is never released is simply garbage collected. Buffers
+ * which have grown beyond {@link #MAX_RETAINED_CAPACITY} characters are not
+ * retained, so that an occasional huge message does not pin a large array for
+ * the lifetime of the thread.</p>
+ *
+ * @since 2.0.17
+ */
+public final class ThreadLocalBuffer {
+
+    // BEWARE: Keys or values placed in a ThreadLocal should not be of a type/class
+    // not included in the JDK. See also https://jira.qos.ch/browse/LOGBACK-450
+
+    static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Buffers whose capacity exceeds this value are discarded upon release.
+     */
+    public static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<>();
+
+    private ThreadLocalBuffer() {
+    }
+
+    /**
+     * Returns an empty buffer owned by the calling thread until it is released.
+     *
+     * @return an empty StringBuilder
+     */
+    public static StringBuilder acquire() {
+        return acquire(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns an empty buffer owned by the calling thread until it is released,
+     * with room for at least minimumCapacity characters.
+     *
+     * @param minimumCapacity the number of characters the buffer is expected to hold
+     * @return an empty StringBuilder
+     */
+    public static StringBuilder acquire(int minimumCapacity) {
+        StringBuilder sbuf = BUFFER.get();
+        if (sbuf == null) {
+            return new StringBuilder(Math.max(minimumCapacity, INITIAL_CAPACITY));
+        }
+        BUFFER.set(null);
+        sbuf.setLength(0);
+        sbuf.ensureCapacity(minimumCapacity);
+        return sbuf;
+    }
+
+    /**
+     * Makes the buffer available for reuse by subsequent calls to
+     * {@link #acquire()} on the calling thread. The buffer must not be used by
+     * the caller after this method returns.
+     *
+     * @param sbuf a buffer previously obtained by calling {@link #acquire()}
+     */
+    public static void release(StringBuilder sbuf) {
+        if (sbuf == null || sbuf.capacity() > MAX_RETAINED_CAPACITY) {
+            return;
+        }
+        BUFFER.set(sbuf);
+    }
+}
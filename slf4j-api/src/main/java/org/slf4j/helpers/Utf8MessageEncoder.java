@@ -0,0 +1,188 @@
+package org.slf4j.helpers;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Formats messages in the manner of {@link MessageFormatter} directly into
+ * UTF-8 encoded bytes.
+ *
+ * <p>The message is rendered into a buffer obtained from
+ * {@link ThreadLocalBuffer} and its characters are then encoded straight into
+ * the destination, without creating an intermediate String or
+ * <code>char[]</code> and without going through a
+ * {@link java.nio.charset.CharsetEncoder}. Runs of ASCII characters, by far
+ * the most frequent case in log messages, are copied with a single comparison
+ * per character, while Latin-1 characters take the two byte branch right
+ * after it.</p>
+ *
+ * <p>Unpaired surrogate characters are encoded as '?', as done by
+ * {@link String#getBytes(java.nio.charset.Charset)}.</p>
+ *
+ * @since 2.0.17
+ */
+public final class Utf8MessageEncoder {
+
+    static final byte REPLACEMENT_BYTE = (byte) '?';
+
+    private Utf8MessageEncoder() {
+    }
+
+    /**
+     * Formats messagePattern with the given arguments and returns the result
+     * encoded in UTF-8. The arguments are assumed not to contain a throwable
+     * as last element, see {@link MessageFormatter#basicArrayFormat(String, Object[])}.
+     *
+     * @param messagePattern the message pattern which will be parsed and formatted
+     * @param argArray the arguments to be substituted in place of the formatting anchors, may be null
+     * @return the formatted message as UTF-8 bytes, null if messagePattern is null
+     */
+    public static byte[] format(final String messagePattern, final Object[] argArray) {
+        if (messagePattern == null) {
+            return null;
+        }
+        StringBuilder sbuf = ThreadLocalBuffer.acquire();
+        try {
+            MessageFormatter.formatTo(sbuf, messagePattern, argArray);
+            byte[] result = new byte[encodedLength(sbuf)];
+            encode(sbuf, result, 0);
+            return result;
+        } finally {
+            ThreadLocalBuffer.release(sbuf);
+        }
+    }
+
+    /**
+     * Formats messagePattern with the given arguments and writes the result,
+     * encoded in UTF-8, into dst starting at its current position.
+     *
+     * <p>If dst does not have enough space remaining, nothing is written and a
+     * {@link BufferOverflowException} is thrown.</p>
+     *
+     * @param dst the destination buffer
+     * @param messagePattern the message pattern which will be parsed and formatted
+     * @param argArray the arguments to be substituted in place of the formatting anchors, may be null
+     * @return the number of bytes written
+     * @throws BufferOverflowException if dst does not have enough space remaining
+     */
+    public static int formatTo(ByteBuffer dst, final String messagePattern, final Object[] argArray) {
+        StringBuilder sbuf = ThreadLocalBuffer.acquire();
+        try {
+            MessageFormatter.formatTo(sbuf, messagePattern, argArray);
+            return encode(sbuf, dst);
+        } finally {
+            ThreadLocalBuffer.release(sbuf);
+        }
+    }
+
+    /**
+     * Returns the number of bytes needed to encode cs in UTF-8.
+     *
+     * @param cs the characters to measure
+     * @return the length of the UTF-8 encoding of cs
+     */
+    public static int encodedLength(CharSequence cs) {
+        final int len = cs.length();
+        int result = len;
+        int i = 0;
+        // ASCII fast path, one byte per char
+        while (i < len && cs.charAt(i) < 0x80) {
+            i++;
+        }
+        for (; i < len; i++) {
+            char c = cs.charAt(i);
+            if (c < 0x80) {
+                continue;
+            } else if (c < 0x800) {
+                result += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(cs.charAt(i + 1))) {
+                // four bytes for the two chars of the pair
+                result += 2;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, replaced by a single byte
+                continue;
+            } else {
+                result += 2;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Encodes cs in UTF-8 into dst starting at offset.
+     *
+     * @param cs the characters to encode
+     * @param dst the destination array, which must be large enough, see {@link #encodedLength(CharSequence)}
+     * @param offset the index in dst at which to start writing
+     * @return the index in dst following the last byte written
+     * @throws ArrayIndexOutOfBoundsException if dst is too small
+     */
+    public static int encode(CharSequence cs, byte[] dst, int offset) {
+        final int len = cs.length();
+        int pos = offset;
+        int i = 0;
+        // ASCII fast path
+        for (char c; i < len && (c = cs.charAt(i)) < 0x80; i++) {
+            dst[pos++] = (byte) c;
+        }
+        for (; i < len; i++) {
+            char c = cs.charAt(i);
+            if (c < 0x80) {
+                dst[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                // includes the Latin-1 range
+                dst[pos++] = (byte) (0xC0 | (c >> 6));
+                dst[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(cs.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, cs.charAt(++i));
+                    dst[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    dst[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    dst[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    dst[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    dst[pos++] = REPLACEMENT_BYTE;
+                }
+            } else {
+                dst[pos++] = (byte) (0xE0 | (c >> 12));
+                dst[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                dst[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Encodes cs in UTF-8 into dst starting at its current position, which is
+     * advanced by the number of bytes written.
+     *
+     * <p>If dst does not have enough space remaining, nothing is written and a
+     * {@link BufferOverflowException} is thrown.</p>
+     *
+     * @param cs the characters to encode
+     * @param dst the destination buffer
+     * @return the number of bytes written
+     * @throws BufferOverflowException if dst does not have enough space remaining
+     */
+    public static int encode(CharSequence cs, ByteBuffer dst) {
+        final int length = encodedLength(cs);
+        if (length > dst.remaining()) {
+            throw new BufferOverflowException();
+        }
+
+        if (dst.hasArray()) {
+            int start = dst.arrayOffset() + dst.position();
+            encode(cs, dst.array(), start);
+            // cast for binary compatibility with Java 8 where position(int) returns a Buffer
+            ((Buffer) dst).position(dst.position() + length);
+        } else {
+            // direct or read-only buffers, go through a scratch array
+            byte[] scratch = new byte[length];
+            encode(cs, scratch, 0);
+            dst.put(scratch);
+        }
+        return length;
+    }
+}
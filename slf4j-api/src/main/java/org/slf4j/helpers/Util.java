@@ -61,7 +61,7 @@ public final class Util {
      * protected method, we add this wrapper which allows the method to be visible
      * inside this package.
      */
-    private static final class ClassContextSecurityManager extends SecurityManager {
+    static final class ClassContextSecurityManager extends SecurityManager {
         protected Class<?>[] getClassContext() {
             return super.getClassContext();
         }
@@ -70,7 +70,7 @@ public final class Util {
     private static ClassContextSecurityManager SECURITY_MANAGER;
     private static boolean SECURITY_MANAGER_CREATION_ALREADY_ATTEMPTED = false;
 
-    private static ClassContextSecurityManager getSecurityManager() {
+    static ClassContextSecurityManager getSecurityManager() {
         if (SECURITY_MANAGER != null)
             return SECURITY_MANAGER;
         else if (SECURITY_MANAGER_CREATION_ALREADY_ATTEMPTED)
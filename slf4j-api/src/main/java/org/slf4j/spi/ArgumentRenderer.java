@@ -0,0 +1,28 @@
+package org.slf4j.spi;
+
+/**
+ * Renders arguments of a given type into the message being formatted.
+ *
+ * <p>By default, an argument substituted for a formatting anchor is rendered
+ * by calling its <code>toString()</code> method. A renderer registered with
+ * {@link org.slf4j.helpers.ArgumentRenderers#register(Class, ArgumentRenderer)}
+ * appends its argument straight into the output buffer instead, which avoids
+ * building an intermediate String and lets applications choose the rendering
+ * of types they do not control, for example UUIDs or byte buffers.</p>
+ *
+ * <p>Implementations must be thread-safe and should neither log nor retain
+ * the buffer passed to them.</p>
+ *
+ * @param <T> the type of the arguments rendered
+ * @since 2.0.17
+ */
+public interface ArgumentRenderer<T> {
+
+    /**
+     * Appends the representation of argument to sbuf.
+     *
+     * @param sbuf the buffer holding the message being formatted
+     * @param argument the argument to render, never null
+     */
+    void render(StringBuilder sbuf, T argument);
+}
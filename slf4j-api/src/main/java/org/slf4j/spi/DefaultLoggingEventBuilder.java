@@ -32,23 +32,111 @@ import org.slf4j.event.DefaultLoggingEvent;
 import org.slf4j.event.KeyValuePair;
 import org.slf4j.event.Level;
 import org.slf4j.event.LoggingEvent;
+import org.slf4j.helpers.Sampler;
+import org.slf4j.helpers.Util;
 
 /**
  * Default implementation of {@link LoggingEventBuilder}
+ *
+ * <p>When the {@link #RECYCLING_KEY} system property is set to true, builders
+ * obtained through {@link #obtain(Logger, Level)} are recycled: each thread
+ * keeps a builder, together with its {@link DefaultLoggingEvent}, which is
+ * reset and made available again as soon as one of the <code>log()</code>
+ * methods returns. A builder in use is not available to nested calls on the
+ * same thread, for example from the <code>toString()</code> method of an
+ * argument which logs in turn; such calls obtain a builder of their own.</p>
+ *
+ * <p>In recycling mode, a builder must not be used once one of its
+ * <code>log()</code> methods has been invoked, or once
+ * {@link #sample(Sampler)} has dropped its event, and
+ * {@link LoggingEventAware} loggers must not retain the event, or the lists
+ * it returns, beyond their <code>log(LoggingEvent)</code> method. Recycling is
+ * therefore disabled by default. Note also that the per-thread builders
+ * reference classes of slf4j-api, which keeps its class loader reachable for
+ * as long as the threads are alive.</p>
+ *
+ * <p>Suppliers of arguments and key-value values are not invoked by the
+ * builder but stored in the event, and invoked only once a consumer reads the
+ * arguments, respectively the key-value pairs, of the event. Thus, an event
+ * discarded by the backend, based on its markers for instance, costs no
+ * supplier invocation. See {@link LoggingEvent#prepareForDeferredProcessing()}
+ * for consumers which process events asynchronously.</p>
+ *
+ * <p>An event dropped by {@link #sample(Sampler)} is abandoned on the spot,
+ * before any argument is rendered, and a recyclable builder is recycled right
+ * away, since the rest of the chain runs on the returned
+ * {@link NOPLoggingEventBuilder}. Without recycling, the builder stays usable:
+ * calls made on it afterwards are accepted but its {@code log()} methods do
+ * nothing.</p>
  */
 public class DefaultLoggingEventBuilder implements LoggingEventBuilder, CallerBoundaryAware {
 
+    /**
+     * System property which, when set to true, enables the recycling of
+     * builders and events. See the class documentation for the restrictions
+     * recycling implies.
+     *
+     * @since 2.0.17
+     */
+    public static final String RECYCLING_KEY = "slf4j.eventBuilder.recycling";
 
     // The caller boundary when the log() methods are invoked, is this class itself.
 
     static String DLEB_FQCN = DefaultLoggingEventBuilder.class.getName();
 
+    // not final so that tests can toggle recycling
+    static boolean recycling = Util.safeGetBooleanSystemProperty(RECYCLING_KEY);
+
+    // holds the builder of the current thread while it is not in use
+    private static final ThreadLocal<DefaultLoggingEventBuilder> RECYCLED_BUILDER = new ThreadLocal<>();
+
     protected DefaultLoggingEvent loggingEvent;
     protected Logger logger;
 
+    private final boolean recyclable;
+
+    // set when the event was dropped by a sampler, log() then does nothing
+    private boolean dropped;
+
     public DefaultLoggingEventBuilder(Logger logger, Level level) {
+        this(logger, level, false);
+    }
+
+    private DefaultLoggingEventBuilder(Logger logger, Level level, boolean recyclable) {
         this.logger = logger;
-        loggingEvent = new DefaultLoggingEvent(level, logger);
+        this.loggingEvent = new DefaultLoggingEvent(level, logger);
+        this.recyclable = recyclable;
+    }
+
+    /**
+     * Returns a builder for an event of the given level logged through logger.
+     * Unless recycling is enabled, a new builder is returned on each call.
+     *
+     * @param logger the logger the event will be logged through
+     * @param level the level of the event
+     * @return a builder ready for use
+     * @since 2.0.17
+     */
+    public static DefaultLoggingEventBuilder obtain(Logger logger, Level level) {
+        if (!recycling) {
+            return new DefaultLoggingEventBuilder(logger, level);
+        }
+        DefaultLoggingEventBuilder builder = RECYCLED_BUILDER.get();
+        if (builder == null) {
+            return new DefaultLoggingEventBuilder(logger, level, true);
+        }
+        RECYCLED_BUILDER.set(null);
+        builder.dropped = false;
+        builder.logger = logger;
+        builder.loggingEvent.reset(level, logger);
+        return builder;
+    }
+
+    private void recycle() {
+        // drop references to the arguments right away rather than on the next use
+        logger = null;
+        loggingEvent.reset(null, null);
+        RECYCLED_BUILDER.set(this);
     }
 
     /**
@@ -70,6 +158,22 @@ public class DefaultLoggingEventBuilder implements LoggingEventBuilder, CallerBo
         return this;
     }
 
+    @Override
+    public LoggingEventBuilder sample(Sampler sampler) {
+        long suppressed = sampler.sample();
+        if (suppressed == Sampler.DROP) {
+            dropped = true;
+            if (recyclable) {
+                recycle();
+            }
+            return NOPLoggingEventBuilder.singleton();
+        }
+        if (suppressed > 0) {
+            loggingEvent.addKeyValue(Sampler.SUPPRESSED_KEY, suppressed);
+        }
+        return this;
+    }
+
     @Override
     public LoggingEventBuilder addArgument(Object p) {
         this.loggingEvent.addArgument(p);
@@ -78,7 +182,7 @@ public class DefaultLoggingEventBuilder implements LoggingEventBuilder, CallerBo
 
     @Override
     public LoggingEventBuilder addArgument(Supplier<?> objectSupplier) {
-        this.loggingEvent.addArgument(objectSupplier.get());
+        this.loggingEvent.addDeferredArgument(objectSupplier);
         return this;
     }
 
@@ -90,7 +194,7 @@ public class DefaultLoggingEventBuilder implements LoggingEventBuilder, CallerBo
 
     @Override
     public LoggingEventBuilder addKeyValue(String key, Supplier<Object> value) {
-        loggingEvent.addKeyValue(key, value.get());
+        loggingEvent.addDeferredKeyValue(key, value);
         return this;
     }
 
@@ -155,16 +259,25 @@ public class DefaultLoggingEventBuilder implements LoggingEventBuilder, CallerBo
     }
 
     protected void log(LoggingEvent aLoggingEvent) {
+        if(dropped) {
+            return;
+        }
         if(aLoggingEvent.getCallerBoundary() == null) {
             setCallerBoundary(DLEB_FQCN);
         }
 
-        if(logger instanceof LoggingEventAware) {
-            ((LoggingEventAware) logger).log(aLoggingEvent);
-        } else if(logger instanceof LocationAwareLogger) {
-            logViaLocationAwareLoggerAPI((LocationAwareLogger) logger, aLoggingEvent);
-        } else {
-            logViaPublicSLF4JLoggerAPI(aLoggingEvent);
+        try {
+            if(logger instanceof LoggingEventAware) {
+                ((LoggingEventAware) logger).log(aLoggingEvent);
+            } else if(logger instanceof LocationAwareLogger) {
+                logViaLocationAwareLoggerAPI((LocationAwareLogger) logger, aLoggingEvent);
+            } else {
+                logViaPublicSLF4JLoggerAPI(aLoggingEvent);
+            }
+        } finally {
+            if(recyclable) {
+                recycle();
+            }
         }
     }
 
@@ -15,6 +15,10 @@ import org.slf4j.event.LoggingEvent;
  *
  * See also https://jira.qos.ch/browse/SLF4J-575
  *
+ * <p>Implementations which retain the event beyond the {@link #log(LoggingEvent)}
+ * method, to process it on another thread, must first invoke
+ * {@link LoggingEvent#prepareForDeferredProcessing()}.</p>
+ *
  * @author Ceki Gulcu
  * @since 2.0.0
  */
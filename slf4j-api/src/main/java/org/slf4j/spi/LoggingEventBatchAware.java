@@ -0,0 +1,31 @@
+package org.slf4j.spi;
+
+import java.util.List;
+
+import org.slf4j.event.LoggingEvent;
+
+/**
+ * An {@link org.slf4j.ILoggerFactory} capable of logging a batch of events at
+ * once, possibly from several loggers, implements this interface.
+ *
+ * <p>Events logged during the initialization phase are replayed once
+ * initialization completes. When the logger factory of the provider
+ * implements this interface, these events are handed over in batches, in the
+ * order they were logged, rather than one by one through each logger.</p>
+ *
+ * <p>As with {@link LoggingEventAware}, the events were filtered beforehand:
+ * only events whose logger is enabled for their level are passed. Each event
+ * designates its logger by {@link LoggingEvent#getLoggerName() name}. The list
+ * is only valid for the duration of the call.</p>
+ *
+ * @since 2.0.17
+ */
+public interface LoggingEventBatchAware {
+
+    /**
+     * Log the given events, in order.
+     *
+     * @param events the events to log, not to be retained
+     */
+    void log(List<? extends LoggingEvent> events);
+}
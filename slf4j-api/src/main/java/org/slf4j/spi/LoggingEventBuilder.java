@@ -29,6 +29,7 @@ import java.util.function.Supplier;
 import org.slf4j.Marker;
 
 import org.slf4j.helpers.CheckReturnValue;
+import org.slf4j.helpers.Sampler;
 
 /**
  * This is the main interface in slf4j's fluent API for creating
@@ -74,6 +75,121 @@ public interface LoggingEventBuilder {
     @CheckReturnValue
     LoggingEventBuilder addArgument(Supplier<?> objectSupplier);
 
+    /**
+     * Add an argument of type <code>int</code> to the event being built.
+     *
+     * <p>Implementations discarding the event, such as {@link NOPLoggingEventBuilder},
+     * override this method so that the argument is never boxed.</p>
+     *
+     * @param p a <code>int</code> to add.
+     * @return a LoggingEventBuilder, usually <b>this</b>.
+     * @since 2.0.17
+     */
+    @CheckReturnValue
+    default LoggingEventBuilder addArgument(int p) {
+        return addArgument((Object) p);
+    }
+
+    /**
+     * Add an argument of type <code>long</code> to the event being built.
+     *
+     * <p>Implementations discarding the event, such as {@link NOPLoggingEventBuilder},
+     * override this method so that the argument is never boxed.</p>
+     *
+     * @param p a <code>long</code> to add.
+     * @return a LoggingEventBuilder, usually <b>this</b>.
+     * @since 2.0.17
+     */
+    @CheckReturnValue
+    default LoggingEventBuilder addArgument(long p) {
+        return addArgument((Object) p);
+    }
+
+    /**
+     * Add an argument of type <code>float</code> to the event being built.
+     *
+     * <p>Implementations discarding the event, such as {@link NOPLoggingEventBuilder},
+     * override this method so that the argument is never boxed.</p>
+     *
+     * @param p a <code>float</code> to add.
+     * @return a LoggingEventBuilder, usually <b>this</b>.
+     * @since 2.0.17
+     */
+    @CheckReturnValue
+    default LoggingEventBuilder addArgument(float p) {
+        return addArgument((Object) p);
+    }
+
+    /**
+     * Add an argument of type <code>double</code> to the event being built.
+     *
+     * <p>Implementations discarding the event, such as {@link NOPLoggingEventBuilder},
+     * override this method so that the argument is never boxed.</p>
+     *
+     * @param p a <code>double</code> to add.
+     * @return a LoggingEventBuilder, usually <b>this</b>.
+     * @since 2.0.17
+     */
+    @CheckReturnValue
+    default LoggingEventBuilder addArgument(double p) {
+        return addArgument((Object) p);
+    }
+
+    /**
+     * Add an argument of type <code>boolean</code> to the event being built.
+     *
+     * <p>Implementations discarding the event, such as {@link NOPLoggingEventBuilder},
+     * override this method so that the argument is never boxed.</p>
+     *
+     * @param p a <code>boolean</code> to add.
+     * @return a LoggingEventBuilder, usually <b>this</b>.
+     * @since 2.0.17
+     */
+    @CheckReturnValue
+    default LoggingEventBuilder addArgument(boolean p) {
+        return addArgument((Object) p);
+    }
+
+    /**
+     * Add an argument of type <code>char</code> to the event being built.
+     *
+     * <p>Implementations discarding the event, such as {@link NOPLoggingEventBuilder},
+     * override this method so that the argument is never boxed.</p>
+     *
+     * @param p a <code>char</code> to add.
+     * @return a LoggingEventBuilder, usually <b>this</b>.
+     * @since 2.0.17
+     */
+    @CheckReturnValue
+    default LoggingEventBuilder addArgument(char p) {
+        return addArgument((Object) p);
+    }
+
+
+    /**
+     * Submit the event being built to the given sampler. If the sampler drops
+     * the event, the returned builder discards everything it is subsequently
+     * given; otherwise, the number of events the sampler dropped since the
+     * previous event it let through, if any, is added to the event under the
+     * {@link Sampler#SUPPRESSED_KEY} key.
+     *
+     * <p>This method should be invoked first, right after the builder is
+     * obtained, so that the arguments of dropped events are neither computed
+     * nor added. Since disabled levels yield a {@link NOPLoggingEventBuilder},
+     * which ignores the sampler, only enabled events are sampled.</p>
+     *
+     * @param sampler the sampler of the call site
+     * @return a LoggingEventBuilder, <b>this</b> if the event is kept.
+     * @since 2.0.17
+     */
+    @CheckReturnValue
+    default LoggingEventBuilder sample(Sampler sampler) {
+        long suppressed = sampler.sample();
+        if (suppressed == Sampler.DROP) {
+            return NOPLoggingEventBuilder.singleton();
+        }
+        return suppressed == 0 ? this : addKeyValue(Sampler.SUPPRESSED_KEY, suppressed);
+    }
 
     /**
      * Add a {@link org.slf4j.event.KeyValuePair key value pair} to the event being built.
@@ -4,6 +4,7 @@ import java.util.function.Supplier;
 
 import org.slf4j.Marker;
 import org.slf4j.event.Level;
+import org.slf4j.helpers.Sampler;
 
 /**
  * <p>A no-operation implementation of {@link LoggingEventBuilder}.</p>
@@ -48,6 +49,46 @@ public class NOPLoggingEventBuilder implements LoggingEventBuilder {
         return singleton();
     }
 
+    @Override
+    public LoggingEventBuilder addArgument(int p) {
+        return singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(long p) {
+        return singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(float p) {
+        return singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(double p) {
+        return singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(boolean p) {
+        return singleton();
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(char p) {
+        return singleton();
+    }
+
+    /**
+     * Returns this builder without consulting the sampler, so that events
+     * which would be discarded anyway neither consume the allowance of the
+     * sampler nor count as suppressed.
+     */
+    @Override
+    public LoggingEventBuilder sample(Sampler sampler) {
+        return singleton();
+    }
+
     @Override
     public LoggingEventBuilder addKeyValue(String key, Object value) {
         return singleton();
@@ -0,0 +1,45 @@
+package org.slf4j.helpers;
+
+/**
+ * Finds the class calling into a given class.
+ *
+ * <p>This implementation relies on {@link StackWalker}, which visits only as
+ * many frames as needed and does not capture the whole stack.</p>
+ *
+ * @since 2.0.17
+ */
+public final class CallingClassFinder {
+
+    // null if the walker cannot be obtained, under a security manager for example
+    private static final StackWalker WALKER = safeGetWalker();
+
+    private CallingClassFinder() {
+    }
+
+    private static StackWalker safeGetWalker() {
+        try {
+            return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+        } catch (SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the class which called the method of boundary currently executing,
+     * that is, the class of the first frame following the innermost frames of
+     * boundary on the stack of the current thread.
+     *
+     * @param boundary the class whose caller is sought
+     * @return the calling class, null if it cannot be determined
+     */
+    public static Class<?> callerOf(Class<?> boundary) {
+        if (WALKER == null) {
+            return null;
+        }
+        return WALKER.walk(frames -> frames.map(StackWalker.StackFrame::getDeclaringClass)
+                        .dropWhile(c -> c != boundary)
+                        .dropWhile(c -> c == boundary)
+                        .findFirst()
+                        .orElse(null));
+    }
+}
@@ -0,0 +1,135 @@
+package org.slf4j;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.event.Level;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.helpers.BasicMDCAdapter;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.spi.LoggingEventBatchAware;
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+
+public class BatchReplayTest {
+
+    static final List<List<String>> BATCHES = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        BATCHES.clear();
+        System.setProperty(LoggerFactory.PROVIDER_PROPERTY_KEY, BatchProvider.class.getName());
+        LoggerFactory.reset();
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(LoggerFactory.PROVIDER_PROPERTY_KEY);
+        LoggerFactory.reset();
+    }
+
+    @Test
+    public void eventsLoggedDuringInitializationAreReplayedInBatches() {
+        LoggerFactory.getILoggerFactory();
+
+        assertEquals(1, BATCHES.size());
+        // the debug event is filtered out beforehand
+        assertEquals(Arrays.asList("a:first", "b:second", "a:third"), BATCHES.get(0));
+    }
+
+    public static class BatchProvider implements SLF4JServiceProvider {
+
+        final BatchLoggerFactory loggerFactory = new BatchLoggerFactory();
+
+        @Override
+        public ILoggerFactory getLoggerFactory() {
+            return loggerFactory;
+        }
+
+        @Override
+        public IMarkerFactory getMarkerFactory() {
+            return new BasicMarkerFactory();
+        }
+
+        @Override
+        public MDCAdapter getMDCAdapter() {
+            return new BasicMDCAdapter();
+        }
+
+        @Override
+        public String getRequestedApiVersion() {
+            return "2.0.99";
+        }
+
+        @Override
+        public void initialize() {
+            // logging during initialization goes to substitute loggers
+            LoggerFactory.getLogger("a").info("first");
+            LoggerFactory.getLogger("b").warn("second");
+            LoggerFactory.getLogger("b").debug("filtered");
+            LoggerFactory.getLogger("a").error("third");
+        }
+    }
+
+    static class BatchLoggerFactory implements ILoggerFactory, LoggingEventBatchAware {
+
+        @Override
+        public Logger getLogger(String name) {
+            return new InfoLogger(name);
+        }
+
+        @Override
+        public void log(List<? extends LoggingEvent> events) {
+            List<String> batch = new ArrayList<>();
+            for (LoggingEvent event : events) {
+                batch.add(event.getLoggerName() + ":" + event.getMessage());
+            }
+            BATCHES.add(batch);
+        }
+    }
+
+    static class InfoLogger extends LegacyAbstractLogger {
+        private static final long serialVersionUID = 1L;
+
+        InfoLogger(String name) {
+            this.name = name;
+        }
+
+        public boolean isTraceEnabled() {
+            return false;
+        }
+
+        public boolean isDebugEnabled() {
+            return false;
+        }
+
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        public boolean isErrorEnabled() {
+            return true;
+        }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern, Object[] arguments, Throwable throwable) {
+            throw new AssertionError("events are expected in batches only");
+        }
+    }
+}
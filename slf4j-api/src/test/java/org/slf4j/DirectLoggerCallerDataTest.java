@@ -0,0 +1,363 @@
+package org.slf4j;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.spi.LoggingEventAware;
+
+/**
+ * Checks the caller data seen by a backend implementing {@link Logger}
+ * directly and locating the caller by fully qualified class name, as logback
+ * does for example.
+ */
+public class DirectLoggerCallerDataTest {
+
+    final CallerRecordingLogger logger = new CallerRecordingLogger();
+
+    @Test
+    public void primitiveArgument() {
+        logger.info("count={}", 42);
+        assertCaller("primitiveArgument");
+    }
+
+    @Test
+    public void fluentPrimitiveArgument() {
+        logger.atInfo().addArgument(42).log("count={}");
+        assertCaller("fluentPrimitiveArgument");
+    }
+
+    private void assertCaller(String methodName) {
+        assertEquals(getClass().getName(), logger.caller.getClassName());
+        assertEquals(methodName, logger.caller.getMethodName());
+    }
+
+    static class CallerRecordingLogger implements Logger, LoggingEventAware {
+
+        static final String FQCN = CallerRecordingLogger.class.getName();
+
+        StackTraceElement caller;
+
+        // the frame following the last frame of the given class
+        void recordCaller(String boundary) {
+            StackTraceElement[] frames = new Throwable().getStackTrace();
+            for (int i = frames.length - 2; i >= 0; i--) {
+                if (frames[i].getClassName().equals(boundary)) {
+                    caller = frames[i + 1];
+                    return;
+                }
+            }
+            caller = null;
+        }
+
+        @Override
+        public void log(LoggingEvent event) {
+            recordCaller(event.getCallerBoundary());
+        }
+
+        @Override
+        public String getName() {
+            return "caller-recording";
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return true;
+        }
+
+        @Override
+        public void trace(String msg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void trace(String format, Object arg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void trace(String format, Object arg1, Object arg2) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void trace(String format, Object... arguments) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void trace(String msg, Throwable t) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public boolean isTraceEnabled(Marker marker) {
+            return true;
+        }
+
+        @Override
+        public void trace(Marker marker, String msg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void trace(Marker marker, String format, Object arg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void trace(Marker marker, String format, Object arg1, Object arg2) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void trace(Marker marker, String format, Object... argArray) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void trace(Marker marker, String msg, Throwable t) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return true;
+        }
+
+        @Override
+        public void debug(String msg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void debug(String format, Object arg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void debug(String format, Object arg1, Object arg2) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void debug(String format, Object... arguments) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void debug(String msg, Throwable t) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public boolean isDebugEnabled(Marker marker) {
+            return true;
+        }
+
+        @Override
+        public void debug(Marker marker, String msg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void debug(Marker marker, String format, Object arg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void debug(Marker marker, String format, Object arg1, Object arg2) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void debug(Marker marker, String format, Object... arguments) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void debug(Marker marker, String msg, Throwable t) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        @Override
+        public void info(String msg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void info(String format, Object arg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void info(String format, Object arg1, Object arg2) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void info(String format, Object... arguments) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void info(String msg, Throwable t) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public boolean isInfoEnabled(Marker marker) {
+            return true;
+        }
+
+        @Override
+        public void info(Marker marker, String msg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void info(Marker marker, String format, Object arg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void info(Marker marker, String format, Object arg1, Object arg2) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void info(Marker marker, String format, Object... arguments) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void info(Marker marker, String msg, Throwable t) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        @Override
+        public void warn(String msg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void warn(String format, Object arg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void warn(String format, Object... arguments) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void warn(String format, Object arg1, Object arg2) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void warn(String msg, Throwable t) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public boolean isWarnEnabled(Marker marker) {
+            return true;
+        }
+
+        @Override
+        public void warn(Marker marker, String msg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void warn(Marker marker, String format, Object arg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void warn(Marker marker, String format, Object arg1, Object arg2) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void warn(Marker marker, String format, Object... arguments) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void warn(Marker marker, String msg, Throwable t) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+
+        @Override
+        public void error(String msg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void error(String format, Object arg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void error(String format, Object arg1, Object arg2) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void error(String format, Object... arguments) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void error(String msg, Throwable t) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public boolean isErrorEnabled(Marker marker) {
+            return true;
+        }
+
+        @Override
+        public void error(Marker marker, String msg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void error(Marker marker, String format, Object arg) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void error(Marker marker, String format, Object arg1, Object arg2) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void error(Marker marker, String format, Object... arguments) {
+            recordCaller(FQCN);
+        }
+
+        @Override
+        public void error(Marker marker, String msg, Throwable t) {
+            recordCaller(FQCN);
+        }
+    }
+}
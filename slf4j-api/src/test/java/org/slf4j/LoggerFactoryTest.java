@@ -8,6 +8,7 @@ import org.slf4j.spi.SLF4JServiceProvider;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
@@ -42,6 +43,14 @@ public class LoggerFactoryTest {
 
     }
 
+    @Test
+    public void testExplicitlySpecifiedBypassesServiceLoading() {
+        System.setProperty(LoggerFactory.PROVIDER_PROPERTY_KEY, "org.slf4j.LoggerFactoryTest$TestingProvider");
+        List<SLF4JServiceProvider> providers = LoggerFactory.findServiceProviders();
+        assertEquals(1, providers.size());
+        assertTrue(providers.get(0) instanceof TestingProvider);
+    }
+
     @Test
     public void testExplicitlySpecifiedNull() {
         assertNull(LoggerFactory.loadExplicitlySpecified(classLoaderOfLoggerFactory));
@@ -0,0 +1,55 @@
+package org.slf4j;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.helpers.CallingClassFinder;
+
+/**
+ * Runs against the packaged multi-release jar, see the
+ * <code>multi-release-jar-test</code> execution in the pom, so that the
+ * classes compiled for Java 9 and later are the ones exercised.
+ */
+public class MultiReleaseJarIT {
+
+    private final ByteArrayOutputStream errContent = new ByteArrayOutputStream();
+    private final PrintStream oldErr = System.err;
+
+    @Before
+    public void setUp() {
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @After
+    public void tearDown() {
+        LoggerFactoryFriend.setDetectLoggerNameMismatch(false);
+        System.setErr(oldErr);
+    }
+
+    @Test
+    public void versionedCallingClassFinderIsLoaded() throws NoSuchFieldException {
+        // only the StackWalker based implementation has this field
+        CallingClassFinder.class.getDeclaredField("WALKER");
+    }
+
+    @Test
+    public void loggerNameMismatchNamesTheCallingClass() {
+        LoggerFactoryFriend.setDetectLoggerNameMismatch(true);
+        LoggerFactory.getLogger(String.class);
+        String err = errContent.toString();
+        assertTrue(err, err.contains("computed name: \"" + MultiReleaseJarIT.class.getName() + "\""));
+    }
+
+    @Test
+    public void noMismatchForTheCallingClass() {
+        LoggerFactoryFriend.setDetectLoggerNameMismatch(true);
+        LoggerFactory.getLogger(MultiReleaseJarIT.class);
+        assertFalse(errContent.toString().contains("Detected logger name mismatch"));
+    }
+}
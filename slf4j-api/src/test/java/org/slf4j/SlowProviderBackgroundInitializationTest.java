@@ -0,0 +1,198 @@
+package org.slf4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.event.Level;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.helpers.BasicMDCAdapter;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.SubstituteLogger;
+import org.slf4j.spi.LoggingEventAware;
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+import org.slf4j.testHarness.MultithreadedInitializationTest;
+
+/**
+ * Checks that, with background initialization, threads obtaining loggers
+ * while a slow provider initializes are not blocked until it completes. The
+ * initialization of the provider is held until the test releases it.
+ */
+public class SlowProviderBackgroundInitializationTest extends MultithreadedInitializationTest {
+
+    static volatile CountDownLatch INITIALIZATION_RELEASED;
+
+    static final AtomicLong LOGGED_EVENT_COUNT = new AtomicLong();
+
+    @Before
+    public void setUp() {
+        LOGGED_EVENT_COUNT.set(0);
+        INITIALIZATION_RELEASED = new CountDownLatch(1);
+        System.setProperty(LoggerFactory.PROVIDER_PROPERTY_KEY, SlowProvider.class.getName());
+        LoggerFactoryFriend.setBackgroundInitialization(true);
+        LoggerFactoryFriend.reset();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        INITIALIZATION_RELEASED.countDown();
+        LoggerFactoryFriend.awaitBackgroundInitialization(10, TimeUnit.SECONDS);
+        LoggerFactoryFriend.setBackgroundInitialization(false);
+        System.clearProperty(LoggerFactory.PROVIDER_PROPERTY_KEY);
+        LoggerFactoryFriend.reset();
+    }
+
+    @Test
+    public void substituteLoggerIsReturnedWhileProviderInitializes() throws InterruptedException {
+        Logger logger = LoggerFactory.getLogger("slow");
+        assertTrue(logger instanceof SubstituteLogger);
+        logger.info("before initialization");
+        assertFalse(LoggerFactoryFriend.awaitBackgroundInitialization(0, TimeUnit.SECONDS));
+
+        INITIALIZATION_RELEASED.countDown();
+        assertTrue(LoggerFactoryFriend.awaitBackgroundInitialization(10, TimeUnit.SECONDS));
+
+        assertTrue(((SubstituteLogger) logger).delegate() instanceof CountingLogger);
+        assertEquals(1, LOGGED_EVENT_COUNT.get());
+    }
+
+    @Test
+    public void mdcAndMarkerFactoryAreRebound() throws InterruptedException {
+        MDCAdapter boundMDCAdapter = MDC.mdcAdapter;
+        IMarkerFactory boundMarkerFactory = MarkerFactory.MARKER_FACTORY;
+        // as bound by their static initializers while the provider is held
+        SLF4JServiceProvider substitute = LoggerFactory.getProvider();
+        assertSame(LoggerFactory.SUBST_PROVIDER, substitute);
+        MDC.mdcAdapter = substitute.getMDCAdapter();
+        MarkerFactory.MARKER_FACTORY = substitute.getMarkerFactory();
+        try {
+            MDC.put("k", "v");
+            Thread other = new Thread(() -> MDC.put("k", "other"));
+            other.start();
+            other.join();
+
+            INITIALIZATION_RELEASED.countDown();
+            assertTrue(LoggerFactoryFriend.awaitBackgroundInitialization(10, TimeUnit.SECONDS));
+
+            SLF4JServiceProvider provider = LoggerFactory.getProvider();
+            assertSame(provider.getMDCAdapter(), MDC.getMDCAdapter());
+            assertSame(provider.getMarkerFactory(), MarkerFactory.getIMarkerFactory());
+            // the context put before the rebinding is carried over, for the current thread only
+            assertEquals("v", MDC.get("k"));
+            assertEquals("v", provider.getMDCAdapter().get("k"));
+            assertNull(substitute.getMDCAdapter().get("k"));
+        } finally {
+            MDC.clear();
+            MDC.substituteMDCAdapter = null;
+            MDC.mdcAdapter = boundMDCAdapter;
+            MarkerFactory.MARKER_FACTORY = boundMarkerFactory;
+        }
+    }
+
+    @Override
+    protected void accessorsCompleted() {
+        // every accessor obtained its loggers while the provider was held
+        try {
+            assertFalse(LoggerFactoryFriend.awaitBackgroundInitialization(0, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            INITIALIZATION_RELEASED.countDown();
+        }
+    }
+
+    @Override
+    protected long getRecordedEventCount() {
+        return LOGGED_EVENT_COUNT.get();
+    }
+
+    public static class SlowProvider implements SLF4JServiceProvider {
+
+        @Override
+        public ILoggerFactory getLoggerFactory() {
+            return CountingLogger::new;
+        }
+
+        final IMarkerFactory markerFactory = new BasicMarkerFactory();
+        final MDCAdapter mdcAdapter = new BasicMDCAdapter();
+
+        @Override
+        public IMarkerFactory getMarkerFactory() {
+            return markerFactory;
+        }
+
+        @Override
+        public MDCAdapter getMDCAdapter() {
+            return mdcAdapter;
+        }
+
+        @Override
+        public String getRequestedApiVersion() {
+            return "2.0.99";
+        }
+
+        @Override
+        public void initialize() {
+            try {
+                // bounded so that a failing test cannot hang the build
+                INITIALIZATION_RELEASED.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static class CountingLogger extends LegacyAbstractLogger implements LoggingEventAware {
+        private static final long serialVersionUID = 1L;
+
+        CountingLogger(String name) {
+            this.name = name;
+        }
+
+        public boolean isTraceEnabled() {
+            return true;
+        }
+
+        public boolean isDebugEnabled() {
+            return true;
+        }
+
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        public boolean isErrorEnabled() {
+            return true;
+        }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern, Object[] arguments, Throwable throwable) {
+            LOGGED_EVENT_COUNT.incrementAndGet();
+        }
+
+        @Override
+        public void log(LoggingEvent event) {
+            LOGGED_EVENT_COUNT.incrementAndGet();
+        }
+    }
+}
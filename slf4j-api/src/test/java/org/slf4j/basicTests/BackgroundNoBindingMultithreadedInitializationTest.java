@@ -0,0 +1,29 @@
+package org.slf4j.basicTests;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.slf4j.LoggerFactoryFriend;
+
+/**
+ * Runs {@link NoBindingMultithreadedInitializationTest} with initialization
+ * performed in the background.
+ */
+public class BackgroundNoBindingMultithreadedInitializationTest extends NoBindingMultithreadedInitializationTest {
+
+    @Before
+    @Override
+    public void setup() {
+        LoggerFactoryFriend.setBackgroundInitialization(true);
+        super.setup();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        LoggerFactoryFriend.awaitBackgroundInitialization(10, TimeUnit.SECONDS);
+        LoggerFactoryFriend.setBackgroundInitialization(false);
+        super.tearDown();
+    }
+}
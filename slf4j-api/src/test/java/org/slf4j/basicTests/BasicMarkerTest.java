@@ -26,6 +26,11 @@ package org.slf4j.basicTests;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
 import java.util.Iterator;
 
 import org.junit.Test;
@@ -207,4 +212,110 @@ public class BasicMarkerTest {
         assertTrue(parent.remove(otherChild));
     }
 
+    @Test
+    public void testDeepChangeIsSeenByAncestors() {
+        final String diffPrefix = "deep" + diff;
+        Marker root = factory.getMarker(diffPrefix + "root");
+        Marker middle = factory.getMarker(diffPrefix + "middle");
+        Marker leaf = factory.getMarker(diffPrefix + "leaf");
+        root.add(middle);
+        assertFalse(root.contains(leaf));
+
+        middle.add(leaf);
+        assertTrue(root.contains(leaf));
+        assertTrue(root.contains(diffPrefix + "leaf"));
+
+        middle.remove(leaf);
+        assertFalse(root.contains(leaf));
+        assertFalse(root.contains(diffPrefix + "leaf"));
+    }
+
+    @Test
+    public void testDetachedAndUnknownMarkers() {
+        final String diffPrefix = "detached" + diff;
+        Marker parent = factory.getMarker(diffPrefix + PARENT_MARKER_STR);
+        Marker detachedChild = ((BasicMarkerFactory) factory).getDetachedMarker(diffPrefix + CHILD_MARKER_STR);
+        parent.add(detachedChild);
+        assertTrue(parent.contains(factory.getMarker(diffPrefix + CHILD_MARKER_STR)));
+        assertFalse(parent.contains(diffPrefix + "neverCreated"));
+    }
+
+    @Test
+    public void testForeignMarkerReference() {
+        final String diffPrefix = "foreign" + diff;
+        Marker parent = factory.getMarker(diffPrefix + PARENT_MARKER_STR);
+        ForeignMarker foreign = new ForeignMarker(diffPrefix + "foreign");
+        parent.add(foreign);
+        assertTrue(parent.contains(foreign));
+        assertFalse(parent.contains(diffPrefix + "grandChild"));
+
+        // changes to other Marker implementations go unnoticed, they must be walked
+        foreign.child = factory.getMarker(diffPrefix + "grandChild");
+        assertTrue(parent.contains(diffPrefix + "grandChild"));
+        assertTrue(parent.contains(foreign.child));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        final String diffPrefix = "serial" + diff;
+        Marker parent = factory.getMarker(diffPrefix + PARENT_MARKER_STR);
+        Marker child = factory.getMarker(diffPrefix + CHILD_MARKER_STR);
+        parent.add(child);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(parent);
+        }
+        Marker copy;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            copy = (Marker) ois.readObject();
+        }
+        assertTrue(copy.contains(child));
+        assertTrue(copy.contains(diffPrefix + CHILD_MARKER_STR));
+        assertFalse(copy.contains(blue));
+    }
+
+    static class ForeignMarker implements Marker {
+        private static final long serialVersionUID = 1L;
+
+        final String name;
+        Marker child;
+
+        ForeignMarker(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void add(Marker reference) {
+            throw new UnsupportedOperationException();
+        }
+
+        public boolean remove(Marker reference) {
+            return false;
+        }
+
+        @Deprecated
+        public boolean hasChildren() {
+            return hasReferences();
+        }
+
+        public boolean hasReferences() {
+            return child != null;
+        }
+
+        public Iterator<Marker> iterator() {
+            return child == null ? Collections.<Marker> emptyIterator() : Collections.singletonList(child).iterator();
+        }
+
+        public boolean contains(Marker other) {
+            return name.equals(other.getName()) || (child != null && child.contains(other));
+        }
+
+        public boolean contains(String name) {
+            return this.name.equals(name) || (child != null && child.contains(name));
+        }
+    }
 }
@@ -0,0 +1,178 @@
+package org.slf4j.eventTest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.slf4j.event.DefaultLoggingEvent;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.NOPLogger;
+
+public class DefaultLoggingEventTest {
+
+    DefaultLoggingEvent event = new DefaultLoggingEvent(Level.INFO, NOPLogger.NOP_LOGGER);
+
+    @Test
+    public void noArguments() {
+        assertNull(event.getArgumentArray());
+        assertNull(event.getArguments());
+        event.addArguments();
+        assertNull(event.getArgumentArray());
+    }
+
+    @Test
+    public void argumentsUpToAndBeyondInlineSlots() {
+        Object[] expected = new Object[20];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i;
+            event.addArgument(i);
+            assertArrayEquals(Arrays.copyOf(expected, i + 1), event.getArgumentArray());
+            assertEquals(Arrays.asList(expected).subList(0, i + 1), event.getArguments());
+        }
+    }
+
+    @Test
+    public void nullArguments() {
+        event.addArguments(null, "a", null, null);
+        assertArrayEquals(new Object[] { null, "a", null, null }, event.getArgumentArray());
+    }
+
+    @Test
+    public void argumentArrayIsNotCopiedTwice() {
+        event.addArguments(1, 2);
+        assertSame(event.getArgumentArray(), event.getArgumentArray());
+
+        event.addArguments(3, 4, 5);
+        Object[] array = event.getArgumentArray();
+        assertSame(array, event.getArgumentArray());
+        assertEquals(5, array.length);
+    }
+
+    @Test
+    public void arrayHandedOutIsLeftAlone() {
+        event.addArgument(1);
+        Object[] one = event.getArgumentArray();
+        event.addArguments(2, 3, 4);
+        Object[] four = event.getArgumentArray();
+        event.addArgument(5);
+
+        assertArrayEquals(new Object[] { 1 }, one);
+        assertArrayEquals(new Object[] { 1, 2, 3, 4 }, four);
+        assertArrayEquals(new Object[] { 1, 2, 3, 4, 5 }, event.getArgumentArray());
+        assertNotSame(four, event.getArgumentArray());
+    }
+
+    @Test
+    public void keyValuePairs() {
+        assertNull(event.getKeyValuePairs());
+        for (int i = 0; i < 6; i++) {
+            event.addKeyValue("k" + i, i);
+            List<KeyValuePair> kvps = event.getKeyValuePairs();
+            assertEquals(i + 1, kvps.size());
+            for (int j = 0; j <= i; j++) {
+                assertEquals(new KeyValuePair("k" + j, j), kvps.get(j));
+            }
+        }
+    }
+
+    @Test
+    public void reset() {
+        event.setMessage("{} {} {} {}");
+        event.addArguments(1, 2, 3, 4);
+        event.addKeyValue("a", 1);
+        event.addKeyValue("b", 2);
+        event.addKeyValue("c", 3);
+        assertEquals("1 2 3 4", event.getFormattedMessage());
+
+        event.reset(Level.DEBUG, NOPLogger.NOP_LOGGER);
+        assertNull(event.getArgumentArray());
+        assertNull(event.getKeyValuePairs());
+        assertNull(event.getFormattedMessage());
+
+        event.setMessage("{}");
+        event.addArgument("x");
+        event.addKeyValue("d", 4);
+        assertEquals("x", event.getFormattedMessage());
+        assertArrayEquals(new Object[] { "x" }, event.getArgumentArray());
+        assertEquals(Arrays.asList(new KeyValuePair("d", 4)), event.getKeyValuePairs());
+    }
+
+    @Test
+    public void deferredArgumentsResolvedOnceOnRead() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Object> supplier = () -> "s" + calls.incrementAndGet();
+        event.setMessage("{} {} {} {}");
+        event.addArgument("a");
+        event.addDeferredArgument(supplier);
+        assertEquals(0, calls.get());
+
+        assertEquals("a s1 {} {}", event.getFormattedMessage());
+        assertArrayEquals(new Object[] { "a", "s1" }, event.getArgumentArray());
+
+        event.addDeferredArgument(supplier);
+        event.addDeferredArgument(supplier);
+        assertEquals(1, calls.get());
+        assertEquals(Arrays.asList("a", "s1", "s2", "s3"), event.getArguments());
+        assertEquals("a s1 s2 s3", event.getFormattedMessage());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void deferredKeyValuesResolvedIndependently() {
+        AtomicInteger calls = new AtomicInteger();
+        event.addDeferredArgument(() -> "arg");
+        for (int i = 0; i < 3; i++) {
+            event.addDeferredKeyValue("k" + i, calls::incrementAndGet);
+        }
+        event.getArgumentArray();
+        assertEquals(0, calls.get());
+
+        event.prepareForDeferredProcessing();
+        assertEquals(3, calls.get());
+        assertEquals(Arrays.asList(new KeyValuePair("k0", 1), new KeyValuePair("k1", 2), new KeyValuePair("k2", 3)), event.getKeyValuePairs());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void failingSupplier() {
+        event.setMessage("x={}");
+        event.addDeferredArgument(() -> {
+            throw new IllegalStateException("boom");
+        });
+        assertEquals("x=[FAILED Supplier.get()]", event.getFormattedMessage());
+    }
+
+    @Test
+    public void markersCannotBeAddedThroughTheReturnedList() {
+        Marker blue = MarkerFactory.getMarker("BLUE");
+        event.addMarker(blue);
+        try {
+            event.getMarkers().add(MarkerFactory.getMarker("RED"));
+            fail("expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+        }
+        assertEquals(Arrays.asList(blue), event.getMarkers());
+    }
+
+    @Test
+    public void duplicateMarkersAreDropped() {
+        Marker blue = MarkerFactory.getMarker("BLUE");
+        event.addMarker(blue);
+        event.addMarker(blue);
+        event.addMarker(MarkerFactory.getDetachedMarker("BLUE"));
+        assertEquals(1, event.getMarkers().size());
+        assertSame(blue, event.getMarkers().get(0));
+    }
+}
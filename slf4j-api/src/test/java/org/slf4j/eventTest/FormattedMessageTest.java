@@ -0,0 +1,71 @@
+package org.slf4j.eventTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.slf4j.event.DefaultLoggingEvent;
+import org.slf4j.event.Level;
+import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.helpers.NOPLogger;
+
+public class FormattedMessageTest {
+
+    static class CountingArgument {
+        int toStringCount;
+
+        @Override
+        public String toString() {
+            toStringCount++;
+            return "counted";
+        }
+    }
+
+    @Test
+    public void defaultLoggingEventFormatsOnce() {
+        CountingArgument argument = new CountingArgument();
+        DefaultLoggingEvent event = new DefaultLoggingEvent(Level.INFO, NOPLogger.NOP_LOGGER);
+        event.setMessage("value={}");
+        event.addArgument(argument);
+
+        assertEquals(0, argument.toStringCount);
+        String first = event.getFormattedMessage();
+        assertEquals("value=counted", first);
+        assertSame(first, event.getFormattedMessage());
+        assertEquals(1, argument.toStringCount);
+    }
+
+    @Test
+    public void defaultLoggingEventIsReformattedAfterChange() {
+        DefaultLoggingEvent event = new DefaultLoggingEvent(Level.INFO, NOPLogger.NOP_LOGGER);
+        event.setMessage("a={} b={}");
+        event.addArgument(1);
+        assertEquals("a=1 b={}", event.getFormattedMessage());
+
+        event.addArgument(2);
+        assertEquals("a=1 b=2", event.getFormattedMessage());
+
+        event.setMessage("b={} a={}");
+        assertEquals("b=1 a=2", event.getFormattedMessage());
+    }
+
+    @Test
+    public void substituteLoggingEventFormatsOnce() {
+        CountingArgument argument = new CountingArgument();
+        SubstituteLoggingEvent event = new SubstituteLoggingEvent();
+        event.setMessage("value={}");
+        event.setArgumentArray(new Object[] { argument });
+
+        assertEquals("value=counted", event.getFormattedMessage());
+        assertEquals("value=counted", event.getFormattedMessage());
+        assertEquals(1, argument.toStringCount);
+    }
+
+    @Test
+    public void nullMessage() {
+        SubstituteLoggingEvent event = new SubstituteLoggingEvent();
+        event.setArgumentArray(new Object[] { 1 });
+        assertNull(event.getFormattedMessage());
+    }
+}
@@ -0,0 +1,108 @@
+package org.slf4j.eventTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.event.EventRecordingLogger;
+import org.slf4j.event.Level;
+import org.slf4j.event.SubstituteEventQueue;
+import org.slf4j.event.SubstituteEventQueue.OverflowPolicy;
+import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.helpers.SubstituteLogger;
+
+public class SubstituteEventQueueTest {
+
+    @After
+    public void tearDown() {
+        System.clearProperty(SubstituteEventQueue.CAPACITY_KEY);
+        System.clearProperty(SubstituteEventQueue.RECORDING_LEVEL_KEY);
+        System.clearProperty(SubstituteEventQueue.OVERFLOW_POLICY_KEY);
+    }
+
+    EventRecordingLogger loggerFor(SubstituteEventQueue queue) {
+        return new EventRecordingLogger(new SubstituteLogger("testLogger", queue, false), queue);
+    }
+
+    List<String> messages(SubstituteEventQueue queue) {
+        List<String> messages = new ArrayList<>();
+        for (SubstituteLoggingEvent event : queue) {
+            messages.add(event.getMessage());
+        }
+        return messages;
+    }
+
+    @Test
+    public void dropNewest() {
+        SubstituteEventQueue queue = new SubstituteEventQueue(2, Level.TRACE, OverflowPolicy.DROP_NEWEST);
+        EventRecordingLogger logger = loggerFor(queue);
+        for (int i = 0; i < 5; i++) {
+            logger.info("m" + i);
+        }
+        assertEquals(3, queue.getDroppedEventCount());
+        assertEquals(Arrays.asList("m0", "m1"), messages(queue));
+    }
+
+    @Test
+    public void dropOldest() {
+        SubstituteEventQueue queue = new SubstituteEventQueue(2, Level.TRACE, OverflowPolicy.DROP_OLDEST);
+        EventRecordingLogger logger = loggerFor(queue);
+        for (int i = 0; i < 5; i++) {
+            logger.info("m" + i);
+        }
+        assertEquals(3, queue.getDroppedEventCount());
+        assertEquals(Arrays.asList("m3", "m4"), messages(queue));
+    }
+
+    @Test
+    public void countOnly() {
+        SubstituteEventQueue queue = new SubstituteEventQueue(100, Level.TRACE, OverflowPolicy.COUNT_ONLY);
+        EventRecordingLogger logger = loggerFor(queue);
+        logger.info("a");
+        logger.error("b");
+        assertTrue(queue.isEmpty());
+        assertEquals(2, queue.getDroppedEventCount());
+    }
+
+    @Test
+    public void eventsBelowRecordingLevelAreIgnored() {
+        SubstituteEventQueue queue = new SubstituteEventQueue(100, Level.WARN, OverflowPolicy.DROP_NEWEST);
+        EventRecordingLogger logger = loggerFor(queue);
+        assertFalse(logger.isInfoEnabled());
+        assertTrue(logger.isWarnEnabled());
+        logger.debug("a");
+        logger.info("b");
+        logger.warn("c");
+        logger.error("d");
+        assertEquals(Arrays.asList("c", "d"), messages(queue));
+        assertEquals(0, queue.getDroppedEventCount());
+    }
+
+    @Test
+    public void clearResetsDroppedCount() {
+        SubstituteEventQueue queue = new SubstituteEventQueue(1, Level.TRACE, OverflowPolicy.DROP_NEWEST);
+        EventRecordingLogger logger = loggerFor(queue);
+        logger.info("a");
+        logger.info("b");
+        queue.clear();
+        assertEquals(0, queue.getDroppedEventCount());
+    }
+
+    @Test
+    public void configurationFromSystemProperties() {
+        System.setProperty(SubstituteEventQueue.CAPACITY_KEY, "1");
+        System.setProperty(SubstituteEventQueue.RECORDING_LEVEL_KEY, "debug");
+        System.setProperty(SubstituteEventQueue.OVERFLOW_POLICY_KEY, "drop_oldest");
+        SubstituteEventQueue queue = SubstituteEventQueue.fromSystemProperties();
+        assertEquals(1, queue.remainingCapacity());
+        assertFalse(queue.isRecorded(Level.TRACE));
+        assertTrue(queue.isRecorded(Level.DEBUG));
+        assertFalse(queue.isCountOnly());
+    }
+}
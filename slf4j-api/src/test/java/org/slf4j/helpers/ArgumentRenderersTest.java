@@ -0,0 +1,109 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.spi.ArgumentRenderer;
+
+public class ArgumentRenderersTest {
+
+    final UUID uuid = new UUID(0x0123456789abcdefL, 0xfedcba9876543210L);
+
+    final ArgumentRenderer<UUID> uuidRenderer = (sbuf, u) -> sbuf.append("uuid:").append(Long.toHexString(u.getMostSignificantBits()));
+
+    @After
+    public void tearDown() {
+        ArgumentRenderers.unregister(UUID.class);
+        ArgumentRenderers.unregister(ByteBuffer.class);
+        ArgumentRenderers.unregister(Collection.class);
+        ArgumentRenderers.unregister(List.class);
+        ArgumentRenderers.unregister(Number.class);
+        ArgumentRenderers.unregister(Integer.class);
+    }
+
+    @Test
+    public void noRendererByDefault() {
+        assertNull(ArgumentRenderers.lookup(UUID.class));
+        assertEquals("id=" + uuid, MessageFormatter.format("id={}", uuid).getMessage());
+    }
+
+    @Test
+    public void registeredRendererIsUsed() {
+        ArgumentRenderers.register(UUID.class, uuidRenderer);
+        assertEquals("id=uuid:123456789abcdef done", MessageFormatter.format("id={} done", uuid).getMessage());
+        assertEquals("ids=[uuid:123456789abcdef, x]", MessageFormatter.format("ids={}", new Object[] { uuid, "x" }).getMessage());
+    }
+
+    @Test
+    public void unregisterRestoresToString() {
+        ArgumentRenderers.register(UUID.class, uuidRenderer);
+        assertTrue(ArgumentRenderers.unregister(UUID.class));
+        assertFalse(ArgumentRenderers.unregister(UUID.class));
+        assertEquals("id=" + uuid, MessageFormatter.format("id={}", uuid).getMessage());
+    }
+
+    @Test
+    public void rendererAppliesToSubclasses() {
+        ArgumentRenderers.register(ByteBuffer.class, (sbuf, b) -> sbuf.append("bytes:").append(b.remaining()));
+        // the runtime class is a subclass of ByteBuffer
+        assertEquals("buf=bytes:16", MessageFormatter.format("buf={}", ByteBuffer.allocate(16)).getMessage());
+        assertEquals("buf=bytes:8", MessageFormatter.format("buf={}", ByteBuffer.allocateDirect(8)).getMessage());
+    }
+
+    @Test
+    public void nearestSuperclassWins() {
+        ArgumentRenderer<Number> numberRenderer = (sbuf, n) -> sbuf.append("number");
+        ArgumentRenderer<Integer> integerRenderer = (sbuf, i) -> sbuf.append("integer");
+        ArgumentRenderers.register(Number.class, numberRenderer);
+        ArgumentRenderers.register(Integer.class, integerRenderer);
+        assertSame(integerRenderer, ArgumentRenderers.lookup(Integer.class));
+        assertSame(numberRenderer, ArgumentRenderers.lookup(Long.class));
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void classesTakePrecedenceOverInterfaces() {
+        ArgumentRenderer<Collection> collectionRenderer = (sbuf, c) -> sbuf.append("collection");
+        ArgumentRenderers.register(Collection.class, collectionRenderer);
+        assertSame(collectionRenderer, ArgumentRenderers.lookup(ArrayList.class));
+
+        ArgumentRenderer<List> listRenderer = (sbuf, l) -> sbuf.append("list");
+        ArgumentRenderers.register(List.class, listRenderer);
+        // List is more specific than Collection and must be seen first
+        assertSame(listRenderer, ArgumentRenderers.lookup(ArrayList.class));
+    }
+
+    @Test
+    public void registrationInvalidatesCachedLookups() {
+        assertNull(ArgumentRenderers.lookup(UUID.class));
+        ArgumentRenderers.register(Number.class, (sbuf, n) -> sbuf.append("number"));
+        assertNull(ArgumentRenderers.lookup(UUID.class));
+        ArgumentRenderers.register(UUID.class, uuidRenderer);
+        assertEquals("uuid:123456789abcdef", MessageFormatter.format("{}", uuid).getMessage());
+    }
+
+    @Test
+    public void failingRendererOutputIsDiscarded() {
+        ArgumentRenderers.register(UUID.class, (sbuf, u) -> {
+            sbuf.append("partial");
+            throw new IllegalStateException("boom");
+        });
+        assertEquals("id=[FAILED rendering] ok", MessageFormatter.format("id={} {}", uuid, "ok").getMessage());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void arrayTypesAreRejected() {
+        ArgumentRenderers.register(byte[].class, (sbuf, b) -> sbuf.append(b.length));
+    }
+}
@@ -0,0 +1,29 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class CallingClassFinderTest {
+
+    static class Boundary {
+        static Class<?> whoCalls() {
+            return nested();
+        }
+
+        private static Class<?> nested() {
+            return CallingClassFinder.callerOf(Boundary.class);
+        }
+    }
+
+    @Test
+    public void callerOfBoundary() {
+        assertEquals(CallingClassFinderTest.class, Boundary.whoCalls());
+    }
+
+    @Test
+    public void boundaryNotOnStack() {
+        assertNull(CallingClassFinder.callerOf(Boundary.class));
+    }
+}
@@ -0,0 +1,74 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class CapacityHintTest {
+
+    static String repeat(char c, int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void initialHint() {
+        CompiledMessagePattern compiled = CompiledMessagePattern.compile("x={}");
+        assertEquals(4 + 50, compiled.capacityHint());
+    }
+
+    @Test
+    public void hintRisesQuicklyAndDecaysSlowly() {
+        CompiledMessagePattern compiled = CompiledMessagePattern.compile("x={}");
+        for (int i = 0; i < 20; i++) {
+            compiled.recordLength(1000);
+        }
+        assertEquals(1000, compiled.capacityHint());
+
+        compiled.recordLength(100);
+        int hint = compiled.capacityHint();
+        assertTrue("hint " + hint, hint < 1000 && hint > 900);
+
+        for (int i = 0; i < 200; i++) {
+            compiled.recordLength(100);
+        }
+        assertEquals(100, compiled.capacityHint(), 15);
+    }
+
+    @Test
+    public void hintIsCapped() {
+        CompiledMessagePattern compiled = CompiledMessagePattern.compile("x={}");
+        for (int i = 0; i < 50; i++) {
+            compiled.recordLength(10_000_000);
+        }
+        assertEquals(CompiledMessagePattern.MAX_CAPACITY_HINT, compiled.capacityHint());
+    }
+
+    @Test
+    public void regrowthsStopOnceHintLearned() {
+        String pattern = "long argument {}";
+        Object[] args = new Object[] { repeat('a', 3000) };
+
+        // the pattern is compiled, and its hint learned, from its second use on
+        MessageFormatter.formatTo(new StringBuilder(16), pattern, args);
+        long before = MessageFormatter.getBufferRegrowthCount();
+        MessageFormatter.formatTo(new StringBuilder(16), pattern, args);
+        assertTrue(MessageFormatter.getBufferRegrowthCount() > before);
+
+        for (int i = 0; i < 20; i++) {
+            MessageFormatter.formatTo(new StringBuilder(16), pattern, args);
+        }
+
+        long learned = MessageFormatter.getBufferRegrowthCount();
+        for (int i = 0; i < 20; i++) {
+            StringBuilder sbuf = new StringBuilder(16);
+            MessageFormatter.formatTo(sbuf, pattern, args);
+            assertEquals(14 + 3000, sbuf.length());
+        }
+        assertEquals(learned, MessageFormatter.getBufferRegrowthCount());
+    }
+}
@@ -0,0 +1,125 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.slf4j.Marker;
+import org.slf4j.event.DefaultLoggingEvent;
+import org.slf4j.event.Level;
+
+public class MarkerSetTest {
+
+    // names are unique to this test class, the id registry is shared by all factories
+    BasicMarkerFactory factory = new BasicMarkerFactory();
+    Marker red = factory.getMarker("MarkerSetTest.red");
+    Marker green = factory.getMarker("MarkerSetTest.green");
+    Marker blue = factory.getMarker("MarkerSetTest.blue");
+
+    @Test
+    public void listView() {
+        MarkerSet set = MarkerSet.of(red, green, null, red);
+        assertEquals(Arrays.asList(red, green), set);
+        assertEquals(0, MarkerSet.EMPTY.size());
+        assertSame(MarkerSet.EMPTY, MarkerSet.of((Marker) null));
+    }
+
+    @Test
+    public void combinationsAreShared() {
+        assertSame(MarkerSet.of(red), MarkerSet.of(red));
+        assertSame(MarkerSet.of(red, green), MarkerSet.of(red).with(green));
+        assertNotSame(MarkerSet.of(red, green), MarkerSet.of(green, red));
+    }
+
+    @Test
+    public void detachedHomonymIsNotConfused() {
+        Marker detachedRed = factory.getDetachedMarker("MarkerSetTest.red");
+        detachedRed.add(blue);
+        MarkerSet attached = MarkerSet.of(red);
+        MarkerSet detached = MarkerSet.of(detachedRed);
+        assertSame(detachedRed, detached.get(0));
+        assertTrue(detached.containsAny(MarkerSet.of(blue)));
+        assertFalse(attached.containsAny(MarkerSet.of(blue)));
+    }
+
+    @Test
+    public void containsAnyFollowsReferences() {
+        Marker parent = factory.getMarker("MarkerSetTest.parent");
+        MarkerSet eventMarkers = MarkerSet.of(green, parent);
+        MarkerSet filter = MarkerSet.of(blue, red);
+        assertFalse(eventMarkers.containsAny(filter));
+
+        parent.add(red);
+        assertTrue(eventMarkers.containsAny(filter));
+        assertFalse(filter.containsAny(eventMarkers));
+
+        parent.remove(red);
+        assertFalse(eventMarkers.containsAny(filter));
+        assertFalse(MarkerSet.EMPTY.containsAny(filter));
+    }
+
+    @Test
+    public void defaultLoggingEventCarriesSharedSet() {
+        DefaultLoggingEvent e1 = new DefaultLoggingEvent(Level.INFO, NOPLogger.NOP_LOGGER);
+        DefaultLoggingEvent e2 = new DefaultLoggingEvent(Level.INFO, NOPLogger.NOP_LOGGER);
+        e1.addMarker(red);
+        e1.addMarker(blue);
+        e2.addMarker(red);
+        e2.addMarker(blue);
+        e2.addMarker(null);
+        assertSame(e1.getMarkers(), e2.getMarkers());
+    }
+
+    @Test
+    public void detachedMarkersAreNotGivenIds() {
+        String name = "MarkerSetTest.detached";
+        Marker detached = factory.getDetachedMarker(name);
+        Marker parent = factory.getMarker("MarkerSetTest.parent");
+        parent.add(detached);
+        assertEquals(-1, BasicMarkerFactory.existingMarkerId(name));
+
+        // answered by walking the references
+        assertTrue(parent.contains(detached));
+        assertTrue(parent.contains(name));
+        assertTrue(MarkerSet.of(parent).containsAny(MarkerSet.of(detached)));
+        assertFalse(MarkerSet.of(red).containsAny(MarkerSet.of(detached)));
+
+        // an interned homonym is given an id, and is equal to the detached marker
+        Marker interned = factory.getMarker(name);
+        assertTrue(BasicMarkerFactory.existingMarkerId(name) >= 0);
+        assertTrue(parent.contains(interned));
+        assertTrue(MarkerSet.of(parent).containsAny(MarkerSet.of(interned)));
+        parent.remove(detached);
+    }
+
+    @Test
+    public void singleMarkerSetsOfAllRegisteredMarkersAreShared() {
+        // more detached markers and registered markers than there are successor slots
+        for (int i = 0; i < 4 * MarkerSet.MAX_SUCCESSORS; i++) {
+            Marker detached = factory.getDetachedMarker("MarkerSetTest.oneOff" + i);
+            assertNotSame(MarkerSet.of(detached), MarkerSet.of(detached));
+        }
+        for (int i = 0; i < 4 * MarkerSet.MAX_SUCCESSORS; i++) {
+            Marker marker = factory.getMarker("MarkerSetTest.registered" + i);
+            assertSame(MarkerSet.of(marker), MarkerSet.of(marker));
+        }
+        assertSame(MarkerSet.of(red), MarkerSet.of(red));
+    }
+
+    @Test
+    public void reattachedMarkerIsInterned() {
+        String name = "MarkerSetTest.reattached";
+        Marker first = factory.getMarker(name);
+        assertSame(MarkerSet.of(first), MarkerSet.of(first));
+        factory.detachMarker(name);
+        Marker second = factory.getMarker(name);
+        assertNotSame(first, second);
+        assertSame(second, MarkerSet.of(second).get(0));
+        assertSame(MarkerSet.of(second), MarkerSet.of(second));
+    }
+}
@@ -0,0 +1,76 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Measures the bytes allocated by the current thread while formatting, using
+ * the HotSpot specific {@link com.sun.management.ThreadMXBean}.
+ */
+public class MessageFormatterAllocationTest {
+
+    static final int WARMUP_ITERATIONS = 10_000;
+    static final int ITERATIONS = 10_000;
+
+    // far below what a single allocation per iteration would amount to
+    static final long ALLOCATION_TOLERANCE = 1024;
+
+    com.sun.management.ThreadMXBean threadMXBean;
+
+    @Before
+    public void setUp() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void scalarArgumentsAllocateNothing() {
+        String pattern = "user={} action={} target={}";
+        Object[] args = new Object[] { "alice", "login", "console" };
+        StringBuilder sbuf = new StringBuilder(256);
+
+        runFormatTo(sbuf, pattern, args, WARMUP_ITERATIONS);
+        long allocated = measure(sbuf, pattern, args);
+
+        assertEquals("user=alice action=login target=console", sbuf.toString());
+        assertTrue("allocated " + allocated + " bytes", allocated < ALLOCATION_TOLERANCE);
+    }
+
+    @Test
+    public void primitiveArrayArgumentAllocatesNothing() {
+        String pattern = "flags={}";
+        Object[] args = new Object[] { new boolean[] { true, false } };
+        StringBuilder sbuf = new StringBuilder(256);
+
+        runFormatTo(sbuf, pattern, args, WARMUP_ITERATIONS);
+        long allocated = measure(sbuf, pattern, args);
+
+        assertEquals("flags=[true, false]", sbuf.toString());
+        assertTrue("allocated " + allocated + " bytes", allocated < ALLOCATION_TOLERANCE);
+    }
+
+    private long measure(StringBuilder sbuf, String pattern, Object[] args) {
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        runFormatTo(sbuf, pattern, args, ITERATIONS);
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        return after - before;
+    }
+
+    private static void runFormatTo(StringBuilder sbuf, String pattern, Object[] args, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            sbuf.setLength(0);
+            MessageFormatter.formatTo(sbuf, pattern, args);
+        }
+    }
+}
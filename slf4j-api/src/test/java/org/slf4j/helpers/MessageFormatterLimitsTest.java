@@ -0,0 +1,173 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class MessageFormatterLimitsTest {
+
+    @After
+    public void tearDown() {
+        RenderingLimits.current = RenderingLimits.UNLIMITED;
+    }
+
+    static void setLimits(int maxElements, int maxArgumentLength, int maxMessageLength) {
+        RenderingLimits.current = new RenderingLimits(maxElements, maxArgumentLength, maxMessageLength);
+    }
+
+    static String format(String pattern, Object... args) {
+        return MessageFormatter.basicArrayFormat(pattern, args);
+    }
+
+    @Test
+    public void unlimitedByDefault() {
+        int[] ints = new int[1000];
+        assertEquals(2 + 1000 + 999 * 2, format("{}", ints).length());
+    }
+
+    @Test
+    public void arrayElements() {
+        setLimits(3, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertEquals("a=[1, 2, 3, ...]", format("a={}", new int[] { 1, 2, 3, 4, 5 }));
+        assertEquals("a=[1, 2, 3]", format("a={}", new int[] { 1, 2, 3 }));
+        assertEquals("a=[true, false, true, ...]", format("a={}", new boolean[] { true, false, true, false }));
+        assertEquals("a=[1, 2, 3, ...]", format("a={}", new byte[] { 1, 2, 3, 4 }));
+        assertEquals("a=[a, b, c, ...]", format("a={}", new char[] { 'a', 'b', 'c', 'd' }));
+        assertEquals("a=[1, 2, 3, ...]", format("a={}", new short[] { 1, 2, 3, 4 }));
+        assertEquals("a=[1, 2, 3, ...]", format("a={}", new long[] { 1, 2, 3, 4 }));
+        assertEquals("a=[1.0, 2.0, 3.0, ...]", format("a={}", new float[] { 1, 2, 3, 4 }));
+        assertEquals("a=[1.0, 2.0, 3.0, ...]", format("a={}", new double[] { 1, 2, 3, 4 }));
+        assertEquals("a=[x, [1, 2, 3, ...], z, ...]", format("a={}", (Object) new Object[] { "x", new int[] { 1, 2, 3, 4 }, "z", "w" }));
+    }
+
+    @Test
+    public void collectionElements() {
+        setLimits(2, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertEquals("l=[a, b, ...]", format("l={}", Arrays.asList("a", "b", "c")));
+        assertEquals("l=[a, b]", format("l={}", Arrays.asList("a", "b")));
+        assertEquals("l=[]", format("l={}", Collections.emptyList()));
+
+        List<Object> self = new ArrayList<>();
+        self.add(self);
+        assertEquals("l=[(this Collection)]", format("l={}", self));
+    }
+
+    @Test
+    public void cycleThroughCollectionAndArray() {
+        setLimits(10, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        List<Object> list = new ArrayList<>();
+        Object[] array = { "a", list };
+        list.add(array);
+        assertEquals("l=[[a, [...]]]", format("l={}", list));
+        assertEquals("a=[a, [[...]]]", format("a={}", (Object) array));
+    }
+
+    @Test
+    public void collectionRenderingStopsEarly() {
+        setLimits(5, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        CountingList list = new CountingList(1_000_000);
+        assertEquals("l=[0, 1, 2, 3, 4, ...]", format("l={}", list));
+        assertTrue("visited " + list.visited, list.visited <= 6);
+    }
+
+    @Test
+    public void argumentLength() {
+        setLimits(Integer.MAX_VALUE, 5, Integer.MAX_VALUE);
+        assertEquals("s=abcde... t=xy", format("s={} t={}", "abcdefgh", "xy"));
+        assertEquals("s=abcde t=xy", format("s={} t={}", "abcde", "xy"));
+        assertEquals("a=[1, 2... b", format("a={} b", new int[] { 1, 2, 3, 4 }));
+    }
+
+    @Test
+    public void collectionRenderingStopsOnceArgumentLengthExceeded() {
+        // collections are rendered element by element only under an element limit
+        setLimits(1_000_000, 10, Integer.MAX_VALUE);
+        CountingList list = new CountingList(1_000_000);
+        assertEquals("[0, 1, 2, ...", format("{}", list));
+        assertTrue("visited " + list.visited, list.visited < 10);
+    }
+
+    @Test
+    public void messageLength() {
+        setLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, 10);
+        assertEquals("0123456789...", format("0123456789abc"));
+        assertEquals("0123456789...", format("01234{}", "56789abc"));
+        assertEquals("0123456789", format("01234{}", "56789"));
+        CountingArgument skipped = new CountingArgument();
+        assertEquals("0123456789...", format("0123456789ab{}", skipped));
+        assertEquals(0, skipped.toStringCalls);
+    }
+
+    @Test
+    public void messageLengthWithFormatTo() {
+        setLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, 4);
+        StringBuilder sbuf = new StringBuilder("prefix:");
+        MessageFormatter.formatTo(sbuf, "abcdef", (Object[]) null);
+        assertEquals("prefix:abcd...", sbuf.toString());
+
+        sbuf.setLength(0);
+        MessageFormatter.formatTo(sbuf, "x={}", 123456L);
+        assertEquals("x=12...", sbuf.toString());
+    }
+
+    @Test
+    public void surrogatePairsAreNotSplit() {
+        setLimits(Integer.MAX_VALUE, 3, Integer.MAX_VALUE);
+        assertEquals("ab...", format("{}", "ab😀cd"));
+    }
+
+    @Test
+    public void invalidPropertyValues() {
+        System.setProperty(MessageFormatter.MAX_ELEMENTS_KEY, "zz");
+        System.setProperty(MessageFormatter.MAX_ARGUMENT_LENGTH_KEY, "-1");
+        System.setProperty(MessageFormatter.MAX_MESSAGE_LENGTH_KEY, "100");
+        try {
+            RenderingLimits limits = RenderingLimits.fromSystemProperties();
+            assertEquals(Integer.MAX_VALUE, limits.maxElements);
+            assertEquals(Integer.MAX_VALUE, limits.maxArgumentLength);
+            assertEquals(100, limits.maxMessageLength);
+        } finally {
+            System.clearProperty(MessageFormatter.MAX_ELEMENTS_KEY);
+            System.clearProperty(MessageFormatter.MAX_ARGUMENT_LENGTH_KEY);
+            System.clearProperty(MessageFormatter.MAX_MESSAGE_LENGTH_KEY);
+        }
+    }
+
+    static class CountingList extends AbstractList<Integer> {
+        final int size;
+        int visited;
+
+        CountingList(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            visited++;
+            return index;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    static class CountingArgument {
+        int toStringCalls;
+
+        @Override
+        public String toString() {
+            toStringCalls++;
+            return "counted";
+        }
+    }
+}
@@ -24,6 +24,8 @@
  */
 package org.slf4j.helpers;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 
 import org.junit.Test;
@@ -336,4 +338,81 @@ public class MessageFormatterTest {
         assertEquals(t, ft.getThrowable());
 
     }
+
+    @Test
+    public void samePatternWithVaryingArgumentCounts() {
+        String pattern = "a={} \\{} b={} c={}";
+
+        assertEquals(pattern, MessageFormatter.arrayFormat(pattern, new Object[0]).getMessage());
+        assertEquals("a=1 \\{} b={} c={}", MessageFormatter.arrayFormat(pattern, new Object[] { i1 }).getMessage());
+        assertEquals("a=1 {} b=2 c={}", MessageFormatter.arrayFormat(pattern, new Object[] { i1, i2 }).getMessage());
+        assertEquals("a=1 {} b=2 c=3", MessageFormatter.arrayFormat(pattern, new Object[] { i1, i2, i3 }).getMessage());
+        assertEquals("a=1 {} b=2 c=3", MessageFormatter.arrayFormat(pattern, new Object[] { i1, i2, i3, i1 }).getMessage());
+
+        // formatting the same pattern a second time must yield identical results
+        assertEquals("a=1 {} b=2 c={}", MessageFormatter.arrayFormat(pattern, new Object[] { i1, i2 }).getMessage());
+    }
+
+    @Test
+    public void escapesAfterLastSubstitutedAnchor() {
+        assertEquals("1 \\{}", MessageFormatter.format("{} \\{}", i1).getMessage());
+        assertEquals("1 {}", MessageFormatter.format("{} \\{}", i1, i2).getMessage());
+        assertEquals("{}", MessageFormatter.format("\\{}", i1).getMessage());
+    }
+
+    @Test
+    public void formatToStringBuilder() {
+        StringBuilder sbuf = new StringBuilder("prefix ");
+        MessageFormatter.formatTo(sbuf, "Value {} is smaller than {}.", new Object[] { i1, i2 });
+        assertEquals("prefix Value 1 is smaller than 2.", sbuf.toString());
+
+        sbuf.setLength(0);
+        MessageFormatter.formatTo(sbuf, "No subst {}", null);
+        assertEquals("No subst {}", sbuf.toString());
+
+        sbuf.setLength(0);
+        MessageFormatter.formatTo(sbuf, null, new Object[] { i1 });
+        assertEquals("null", sbuf.toString());
+    }
+
+    @Test
+    public void formatToAppendable() throws IOException {
+        StringWriter writer = new StringWriter();
+        MessageFormatter.formatTo(writer, "{}{}{}", ia0);
+        assertEquals("123", writer.toString());
+    }
+
+    @Test
+    public void nestedFormattingDoesNotCorruptReusedBuffer() {
+        Object o = new Object() {
+            public String toString() {
+                return MessageFormatter.format("inner {}", i2).getMessage();
+            }
+        };
+        result = MessageFormatter.format("outer {} {}", o, i3).getMessage();
+        assertEquals("outer inner 2 3", result);
+    }
+
+    @Test
+    public void formatToWithPrimitiveArgument() {
+        StringBuilder sbuf = new StringBuilder();
+        MessageFormatter.formatTo(sbuf, "took {} ms", 42L);
+        assertEquals("took 42 ms", sbuf.toString());
+
+        sbuf.setLength(0);
+        MessageFormatter.formatTo(sbuf, "ratio={} flag={}", 0.5d);
+        assertEquals("ratio=0.5 flag={}", sbuf.toString());
+
+        sbuf.setLength(0);
+        MessageFormatter.formatTo(sbuf, "\\{} no anchor", 'c');
+        assertEquals("{} no anchor", sbuf.toString());
+
+        sbuf.setLength(0);
+        MessageFormatter.formatTo(sbuf, "f={}", 1.1f);
+        assertEquals(MessageFormatter.format("f={}", 1.1f).getMessage(), sbuf.toString());
+
+        sbuf.setLength(0);
+        MessageFormatter.formatTo(sbuf, null, true);
+        assertEquals("null", sbuf.toString());
+    }
 }
@@ -0,0 +1,95 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class MessagePatternCacheTest {
+
+    @Test
+    public void capacityIsRoundedToPowerOfTwo() {
+        assertEquals(8, new MessagePatternCache(5).capacity());
+        assertEquals(8, new MessagePatternCache(8).capacity());
+        assertEquals(0, new MessagePatternCache(0).capacity());
+    }
+
+    @Test
+    public void patternIsCompiledOnSecondSighting() {
+        MessagePatternCache cache = new MessagePatternCache(16);
+        String pattern = "x={} y={}";
+        assertNull(cache.get(pattern));
+        CompiledMessagePattern compiled = cache.get(pattern);
+        assertNotNull(compiled);
+        assertSame(compiled, cache.get(pattern));
+        assertEquals(2, compiled.getAnchorCount());
+    }
+
+    @Test
+    public void lookupIsByIdentity() {
+        MessagePatternCache cache = new MessagePatternCache(16);
+        String pattern = "x={} y={}";
+        cache.get(pattern);
+        assertNotNull(cache.get(pattern));
+        assertNull(cache.get(new String(pattern)));
+    }
+
+    @Test
+    public void disabledCacheCompilesNothing() {
+        MessagePatternCache cache = new MessagePatternCache(0);
+        String pattern = "x={}";
+        assertNull(cache.get(pattern));
+        assertNull(cache.get(pattern));
+    }
+
+    @Test
+    public void dynamicPatternsDoNotEvictCachedOnes() {
+        MessagePatternCache cache = new MessagePatternCache(1);
+        String a = "a={}";
+        cache.get(a);
+        CompiledMessagePattern compiledA = cache.get(a);
+        for (int i = 0; i < 10; i++) {
+            assertNull(cache.get("b" + i + "={}"));
+        }
+        assertSame(compiledA, cache.get(a));
+    }
+
+    @Test
+    public void recurringPatternEvictsPreviousOne() {
+        MessagePatternCache cache = new MessagePatternCache(1);
+        String a = "a={}";
+        String b = "b={}";
+        cache.get(a);
+        CompiledMessagePattern compiledA = cache.get(a);
+        cache.get(b);
+        assertNotNull(cache.get(b));
+        cache.get(a);
+        assertNotSame(compiledA, cache.get(a));
+    }
+
+    @Test
+    public void parsedAndCompiledRenditionsAreIdentical() {
+        String[] patterns = { "plain", "x={}", "{}{}{}", "a\\{}b{}", "esc \\\\{} {} tail \\{}", "{} {} \\{}", "x={" };
+        Object[][] argArrays = { {}, { 1 }, { 1, 2 }, { 1, 2, 3, 4 }, { new int[] { 1, 2 }, null } };
+        for (String literal : patterns) {
+            for (Object[] args : argArrays) {
+                String pattern = new String(literal);
+                // first use is parsed on the fly, later uses are compiled
+                String parsed = MessageFormatter.basicArrayFormat(pattern, args);
+                String compiled = MessageFormatter.basicArrayFormat(pattern, args);
+                assertEquals(pattern + " " + args.length, parsed, compiled);
+
+                StringBuilder sbuf = new StringBuilder();
+                MessageFormatter.formatTo(sbuf, new String(literal), 42L);
+                String parsedPrimitive = sbuf.toString();
+                sbuf.setLength(0);
+                MessageFormatter.formatTo(sbuf, pattern, 42L);
+                assertEquals(parsedPrimitive, sbuf.toString());
+                assertEquals(MessageFormatter.basicArrayFormat(pattern, new Object[] { 42L }), parsedPrimitive);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class SamplerTest {
+
+    static final long SECOND = 1_000_000_000L;
+
+    @Test
+    public void everyNthLetsThroughFirstAndEveryNthEvent() {
+        Sampler sampler = Sampler.everyNth(3);
+        assertEquals(0, sampler.sample());
+        assertEquals(Sampler.DROP, sampler.sample());
+        assertEquals(Sampler.DROP, sampler.sample());
+        assertEquals(2, sampler.sample());
+        assertEquals(Sampler.DROP, sampler.sample());
+    }
+
+    @Test
+    public void probabilityBounds() {
+        Sampler never = Sampler.withProbability(0);
+        Sampler always = Sampler.withProbability(1);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Sampler.DROP, never.sample());
+            assertEquals(0, always.sample());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidProbability() {
+        Sampler.withProbability(Double.NaN);
+    }
+
+    @Test
+    public void tokenBucketAllowsBurstThenSustainedRate() {
+        AtomicLong clock = new AtomicLong(42);
+        Sampler sampler = new Sampler.TokenBucket(2, 3, clock::get);
+
+        assertEquals(0, sampler.sample());
+        assertEquals(0, sampler.sample());
+        assertEquals(0, sampler.sample());
+        assertEquals(Sampler.DROP, sampler.sample());
+        assertEquals(Sampler.DROP, sampler.sample());
+
+        // one token every half second
+        clock.addAndGet(SECOND / 2);
+        assertEquals(2, sampler.sample());
+        assertEquals(Sampler.DROP, sampler.sample());
+
+        // a long quiet period refills the bucket, but no more than its capacity
+        clock.addAndGet(100 * SECOND);
+        assertEquals(1, sampler.sample());
+        assertEquals(0, sampler.sample());
+        assertEquals(0, sampler.sample());
+        assertEquals(Sampler.DROP, sampler.sample());
+    }
+
+    @Test
+    public void perKeySamplersAreIndependentAndBounded() {
+        Sampler.PerKey<String> samplers = new Sampler.PerKey<>(() -> Sampler.everyNth(2), 2);
+        Sampler a = samplers.forKey("a");
+        assertSame(a, samplers.forKey("a"));
+        assertEquals(0, a.sample());
+        assertEquals(0, samplers.forKey("b").sample());
+        assertNotSame(a, samplers.forKey("b"));
+
+        // the bound is reached, other keys share a sampler
+        assertSame(samplers.forKey("c"), samplers.forKey("d"));
+        assertNotSame(samplers.forKey("c"), a);
+    }
+}
@@ -24,20 +24,29 @@
  */
 package org.slf4j.helpers;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.event.EventRecordingLogger;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.spi.LoggingEventAware;
 
 /**
  * @author Chetan Mehrotra
@@ -76,12 +85,98 @@ public class SubstitutableLoggerTest {
         }
     }
 
+    @Test
+    public void eventIsLoggedViaLoggingEventAware() {
+        EventAwareLogger delegate = new EventAwareLogger();
+        SubstituteLogger substituteLogger = new SubstituteLogger("foo", null, false);
+        substituteLogger.setDelegate(delegate);
+        SubstituteLoggingEvent event = new SubstituteLoggingEvent();
+
+        assertTrue(substituteLogger.isDelegateEventAware());
+        substituteLogger.log(event);
+        assertEquals(1, delegate.events.size());
+        assertSame(event, delegate.events.get(0));
+    }
+
+    @Test
+    public void eventIsLoggedViaLegacyLogMethod() {
+        LegacyEventLogger delegate = new LegacyEventLogger();
+        SubstituteLogger substituteLogger = new SubstituteLogger("foo", null, false);
+        substituteLogger.setDelegate(delegate);
+
+        assertTrue(substituteLogger.isDelegateEventAware());
+        substituteLogger.log(new SubstituteLoggingEvent());
+        assertEquals(1, delegate.events.size());
+    }
+
+    @Test
+    public void eventIsNotLoggedWithoutLogMethod() {
+        SubstituteLogger substituteLogger = new SubstituteLogger("foo", null, false);
+        substituteLogger.setDelegate(NOPLogger.NOP_LOGGER);
+
+        assertFalse(substituteLogger.isDelegateEventAware());
+        substituteLogger.log(new SubstituteLoggingEvent());
+    }
+
+    @Test
+    public void exceptionsOfDelegateArePropagated() {
+        IllegalStateException failure = new IllegalStateException();
+        SubstituteLogger substituteLogger = new SubstituteLogger("foo", null, false);
+        substituteLogger.setDelegate(new LegacyEventLogger() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void log(LoggingEvent event) {
+                throw failure;
+            }
+        });
+        try {
+            substituteLogger.log(new SubstituteLoggingEvent());
+            fail();
+        } catch (IllegalStateException e) {
+            assertSame(failure, e);
+        }
+    }
+
+    public static class EventAwareLogger extends NOPLogger implements LoggingEventAware {
+        private static final long serialVersionUID = 1L;
+
+        final List<LoggingEvent> events = new ArrayList<>();
+
+        @Override
+        public void log(LoggingEvent event) {
+            events.add(event);
+        }
+    }
+
+    // has a log(LoggingEvent) method but does not implement LoggingEventAware, as some backends did
+    public static class LegacyEventLogger extends NOPLogger {
+        private static final long serialVersionUID = 1L;
+
+        final List<LoggingEvent> events = new ArrayList<>();
+
+        public void log(LoggingEvent event) {
+            events.add(event);
+        }
+    }
+
     private void invokeAllMethodsOf(Logger logger) throws InvocationTargetException, IllegalAccessException {
         for (Method m : Logger.class.getDeclaredMethods()) {
             if (!EXCLUDED_METHODS.contains(m.getName())) {
-                m.invoke(logger, new Object[m.getParameterTypes().length]);
+                m.invoke(logger, defaultArguments(m.getParameterTypes()));
+            }
+        }
+    }
+
+    // null for references, the default value for primitive parameters
+    private static Object[] defaultArguments(Class<?>[] parameterTypes) {
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isPrimitive()) {
+                args[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
             }
         }
+        return args;
     }
 
     private static Set<String> determineMethodSignatures(Class<Logger> loggerClass) {
@@ -25,15 +25,23 @@
 package org.slf4j.helpers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 import org.slf4j.Logger;
+import org.slf4j.event.SubstituteLoggingEvent;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class SubstituteLoggerFactoryTest {
     private final SubstituteLoggerFactory factory = new SubstituteLoggerFactory();
@@ -73,4 +81,40 @@ public class SubstituteLoggerFactoryTest {
         assertEquals(expectedNames, actualNames);
     }
 
+    @Test
+    public void concurrentCallsObtainTheSameLogger() throws Exception {
+        final int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Set<Future<Logger>> futures = new HashSet<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return factory.getLogger("contended");
+                }));
+            }
+            start.countDown();
+            Logger expected = factory.getLogger("contended");
+            for (Future<Logger> future : futures) {
+                assertSame(expected, future.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, factory.getLoggers().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void eventAwarenessFollowsDelegateChanges() {
+        SubstituteLogger logger = (SubstituteLogger) factory.getLogger("foo");
+        logger.setDelegate(NOPLogger.NOP_LOGGER);
+        assertFalse(logger.isDelegateEventAware());
+
+        SubstitutableLoggerTest.EventAwareLogger eventAwareLogger = new SubstitutableLoggerTest.EventAwareLogger();
+        logger.setDelegate(eventAwareLogger);
+        assertTrue(logger.isDelegateEventAware());
+        logger.log(new SubstituteLoggingEvent());
+        assertEquals(1, eventAwareLogger.events.size());
+    }
 }
@@ -0,0 +1,75 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.junit.Test;
+
+public class ThreadLocalBufferTest {
+
+    @Test
+    public void releasedBufferIsReusedEmpty() {
+        StringBuilder sbuf = ThreadLocalBuffer.acquire();
+        sbuf.append("hello");
+        ThreadLocalBuffer.release(sbuf);
+
+        StringBuilder again = ThreadLocalBuffer.acquire();
+        assertSame(sbuf, again);
+        assertEquals(0, again.length());
+        ThreadLocalBuffer.release(again);
+    }
+
+    @Test
+    public void nestedAcquisitionYieldsDistinctBuffer() {
+        StringBuilder outer = ThreadLocalBuffer.acquire();
+        StringBuilder inner = ThreadLocalBuffer.acquire();
+        assertNotSame(outer, inner);
+        ThreadLocalBuffer.release(inner);
+        ThreadLocalBuffer.release(outer);
+    }
+
+    @Test
+    public void oversizedBufferIsNotRetained() {
+        StringBuilder sbuf = ThreadLocalBuffer.acquire();
+        sbuf.ensureCapacity(ThreadLocalBuffer.MAX_RETAINED_CAPACITY + 1);
+        ThreadLocalBuffer.release(sbuf);
+        StringBuilder next = ThreadLocalBuffer.acquire();
+        assertNotSame(sbuf, next);
+        ThreadLocalBuffer.release(next);
+    }
+
+    @Test
+    public void bufferIsReleasedWhenAppendingFails() {
+        StringBuilder sbuf = ThreadLocalBuffer.acquire();
+        ThreadLocalBuffer.release(sbuf);
+
+        Writer failingWriter = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try {
+            MessageFormatter.formatTo(failingWriter, "x={}", new Object[] { 1 });
+            fail("IOException expected");
+        } catch (IOException expected) {
+        }
+
+        StringBuilder again = ThreadLocalBuffer.acquire();
+        assertSame(sbuf, again);
+        ThreadLocalBuffer.release(again);
+    }
+}
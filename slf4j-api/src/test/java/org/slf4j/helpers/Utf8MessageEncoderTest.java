@@ -0,0 +1,67 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class Utf8MessageEncoderTest {
+
+    static final String[] SAMPLES = { "", "plain ascii", "café naïve ÿ", "€ 100", "日本語",
+            "emoji 😀 end", "lone \ud83d surrogate", "trailing high \ud83d", "lone low \ude00 surrogate" };
+
+    @Test
+    public void encodingMatchesStringGetBytes() {
+        for (String sample : SAMPLES) {
+            byte[] expected = sample.getBytes(StandardCharsets.UTF_8);
+            assertEquals(sample, expected.length, Utf8MessageEncoder.encodedLength(sample));
+
+            byte[] actual = new byte[expected.length];
+            assertEquals(expected.length, Utf8MessageEncoder.encode(sample, actual, 0));
+            assertArrayEquals(sample, expected, actual);
+        }
+    }
+
+    @Test
+    public void formatProducesUtf8OfFormattedMessage() {
+        Object[] args = new Object[] { "été", 42, new int[] { 1, 2 } };
+        byte[] expected = MessageFormatter.basicArrayFormat("a={} b={} c={} €", args).getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, Utf8MessageEncoder.format("a={} b={} c={} €", args));
+        assertNull(Utf8MessageEncoder.format(null, args));
+    }
+
+    @Test
+    public void formatToHeapAndDirectBuffers() {
+        byte[] expected = "x=é".getBytes(StandardCharsets.UTF_8);
+        for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.allocate(16), ByteBuffer.allocateDirect(16) }) {
+            buffer.put((byte) '>');
+            int written = Utf8MessageEncoder.formatTo(buffer, "x={}", new Object[] { "é" });
+            assertEquals(expected.length, written);
+            assertEquals(1 + expected.length, buffer.position());
+
+            buffer.flip();
+            byte[] actual = new byte[buffer.remaining()];
+            buffer.get(actual);
+            assertEquals('>', actual[0]);
+            assertArrayEquals(expected, Arrays.copyOfRange(actual, 1, actual.length));
+        }
+    }
+
+    @Test
+    public void overflowLeavesBufferUntouched() {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        try {
+            Utf8MessageEncoder.formatTo(buffer, "too long {}", new Object[] { "for this buffer" });
+            fail("expected BufferOverflowException");
+        } catch (BufferOverflowException e) {
+            assertEquals(0, buffer.position());
+        }
+    }
+}
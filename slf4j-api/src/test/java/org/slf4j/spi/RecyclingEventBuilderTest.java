@@ -0,0 +1,170 @@
+package org.slf4j.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+
+public class RecyclingEventBuilderTest {
+
+    RecordingLogger logger = new RecordingLogger();
+
+    @Before
+    public void setUp() {
+        DefaultLoggingEventBuilder.recycling = true;
+    }
+
+    @After
+    public void tearDown() {
+        DefaultLoggingEventBuilder.recycling = false;
+    }
+
+    @Test
+    public void builderIsReusedAfterLog() {
+        LoggingEventBuilder first = logger.atInfo();
+        first.addKeyValue("k", "v").log("a {}", 1);
+        LoggingEventBuilder second = logger.atInfo();
+        assertSame(first, second);
+        second.log("b {}", 2);
+
+        assertEquals(2, logger.messages.size());
+        assertEquals("k=v a 1", logger.messages.get(0));
+        // nothing from the first event leaks into the second
+        assertEquals("b 2", logger.messages.get(1));
+    }
+
+    @Test
+    public void recycledBuilderReleasesReferences() {
+        DefaultLoggingEventBuilder builder = (DefaultLoggingEventBuilder) logger.atInfo();
+        Object argument = new Object();
+        builder.setCause(new Exception()).log("x {}", argument);
+
+        assertNull(builder.logger);
+        assertNull(builder.loggingEvent.getArguments());
+        assertNull(builder.loggingEvent.getThrowable());
+        assertNull(builder.loggingEvent.getMessage());
+    }
+
+    @Test
+    public void nestedLoggingObtainsDistinctBuilder() {
+        Object loggingArgument = new Object() {
+            @Override
+            public String toString() {
+                logger.atInfo().log("nested {}", "call");
+                return "outer-arg";
+            }
+        };
+
+        LoggingEventBuilder outer = logger.atInfo();
+        outer.addArgument(loggingArgument).log("outer {}");
+
+        assertEquals(2, logger.messages.size());
+        assertEquals("nested call", logger.messages.get(0));
+        assertEquals("outer outer-arg", logger.messages.get(1));
+    }
+
+    @Test
+    public void eventAwareLoggerReceivesRecycledEvent() {
+        EventAwareLogger eventAwareLogger = new EventAwareLogger();
+        eventAwareLogger.atWarn().addArgument("x").log("first {}");
+        eventAwareLogger.atWarn().addArgument("y").log("second {}");
+
+        assertEquals(2, eventAwareLogger.events.size());
+        assertSame(eventAwareLogger.events.get(0), eventAwareLogger.events.get(1));
+        assertEquals("first x", eventAwareLogger.formattedMessages.get(0));
+        assertEquals("second y", eventAwareLogger.formattedMessages.get(1));
+    }
+
+    @Test
+    public void suppliersAreNotInvokedByTheBuilder() {
+        DefaultLoggingEventBuilder.recycling = false;
+        EventAwareLogger eventAwareLogger = new EventAwareLogger() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void log(LoggingEvent event) {
+                // discards the event without reading it
+                events.add(event);
+            }
+        };
+        eventAwareLogger.atInfo().addArgument(() -> {
+            throw new AssertionError();
+        }).addKeyValue("k", () -> {
+            throw new AssertionError();
+        }).log("{}");
+        assertEquals(1, eventAwareLogger.events.size());
+    }
+
+    @Test
+    public void noRecyclingByDefault() {
+        DefaultLoggingEventBuilder.recycling = false;
+        LoggingEventBuilder first = logger.atInfo();
+        first.log("a");
+        assertNotSame(first, logger.atInfo());
+    }
+
+    static class RecordingLogger extends LegacyAbstractLogger {
+        private static final long serialVersionUID = 1L;
+
+        List<String> messages = new ArrayList<>();
+
+        RecordingLogger() {
+            this.name = "recording";
+        }
+
+        public boolean isTraceEnabled() {
+            return true;
+        }
+
+        public boolean isDebugEnabled() {
+            return true;
+        }
+
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        public boolean isErrorEnabled() {
+            return true;
+        }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern, Object[] arguments, Throwable throwable) {
+            messages.add(MessageFormatter.basicArrayFormat(messagePattern, arguments));
+        }
+    }
+
+    static class EventAwareLogger extends RecordingLogger implements LoggingEventAware {
+        private static final long serialVersionUID = 1L;
+
+        List<LoggingEvent> events = new ArrayList<>();
+        List<String> formattedMessages = new ArrayList<>();
+
+        @Override
+        public void log(LoggingEvent event) {
+            events.add(event);
+            formattedMessages.add(event.getFormattedMessage());
+        }
+    }
+}
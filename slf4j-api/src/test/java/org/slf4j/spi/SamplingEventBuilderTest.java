@@ -0,0 +1,87 @@
+package org.slf4j.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.helpers.NOPLogger;
+import org.slf4j.helpers.Sampler;
+import org.slf4j.spi.RecyclingEventBuilderTest.RecordingLogger;
+
+public class SamplingEventBuilderTest {
+
+    RecordingLogger logger = new RecordingLogger();
+
+    @After
+    public void tearDown() {
+        DefaultLoggingEventBuilder.recycling = false;
+    }
+
+    @Test
+    public void suppressedCountIsReportedWithNextEvent() {
+        Sampler sampler = Sampler.everyNth(3);
+        for (int i = 0; i < 7; i++) {
+            logger.atWarn().sample(sampler).log("timeout {}", i);
+        }
+        assertEquals(Arrays.asList("timeout 0", "suppressed=2 timeout 3", "suppressed=2 timeout 6"), logger.messages);
+    }
+
+    @Test
+    public void argumentsOfDroppedEventsAreNotEvaluated() {
+        Sampler sampler = Sampler.withProbability(0);
+        logger.atInfo().sample(sampler).addArgument(() -> {
+            throw new AssertionError();
+        }).log("{}");
+        assertEquals(0, logger.messages.size());
+    }
+
+    @Test
+    public void droppedBuilderIsRecycledRightAway() {
+        DefaultLoggingEventBuilder.recycling = true;
+        LoggingEventBuilder builder = logger.atInfo();
+        assertSame(NOPLoggingEventBuilder.singleton(), builder.sample(Sampler.withProbability(0)).addArgument(1));
+        assertSame(builder, logger.atInfo());
+        assertEquals(0, logger.messages.size());
+    }
+
+    @Test
+    public void canonicalChainReusesBuilderAfterDroppedEvent() {
+        DefaultLoggingEventBuilder.recycling = true;
+        LoggingEventBuilder recycled = logger.atInfo();
+        recycled.log("kept");
+        logger.atInfo().sample(Sampler.withProbability(0)).log("dropped");
+        assertSame(recycled, logger.atInfo());
+        assertEquals(Arrays.asList("kept"), logger.messages);
+    }
+
+    @Test
+    public void callsChainedAfterDroppedSampleAreIgnored() {
+        DefaultLoggingEventBuilder.recycling = true;
+        LoggingEventBuilder builder = logger.atInfo();
+        builder.sample(Sampler.withProbability(0));
+        builder.addArgument(1).addKeyValue("k", "v").setCause(new Exception()).log("dropped {}");
+        assertEquals(0, logger.messages.size());
+
+        logger.atInfo().log("kept");
+        assertEquals(Arrays.asList("kept"), logger.messages);
+    }
+
+    @Test
+    public void callsChainedAfterDroppedSampleAreIgnoredWithoutRecycling() {
+        LoggingEventBuilder builder = logger.atInfo();
+        builder.sample(Sampler.withProbability(0));
+        builder.addArgument(1).addKeyValue("k", "v").log("dropped {}");
+        assertEquals(0, logger.messages.size());
+    }
+
+    @Test
+    public void disabledLevelsDoNotConsumeTheSampler() {
+        Sampler sampler = Sampler.everyNth(2);
+        NOPLogger.NOP_LOGGER.atInfo().sample(sampler).log("dropped");
+        logger.atInfo().sample(sampler).log("kept");
+        assertEquals(Arrays.asList("kept"), logger.messages);
+    }
+}
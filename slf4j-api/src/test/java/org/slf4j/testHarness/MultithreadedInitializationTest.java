@@ -8,12 +8,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerAccessingThread;
 import org.slf4j.LoggerFactory;
+import org.slf4j.LoggerFactoryFriend;
 import org.slf4j.event.EventRecordingLogger;
 import org.slf4j.helpers.SubstituteLogger;
 
@@ -29,11 +31,14 @@ abstract public class MultithreadedInitializationTest {
     public void multiThreadedInitialization() throws InterruptedException, BrokenBarrierException {
         @SuppressWarnings("unused")
         LoggerAccessingThread[] accessors = harness();
+        accessorsCompleted();
 
         Logger logger = LoggerFactory.getLogger(getClass().getName());
         logger.info("hello");
         eventCount.getAndIncrement();
 
+        assertTrue(LoggerFactoryFriend.awaitBackgroundInitialization(10, TimeUnit.SECONDS));
+
         assertAllSubstLoggersAreFixed();
         long recordedEventCount = getRecordedEventCount();
         int LENIENCY_COUNT = 30;
@@ -49,6 +54,13 @@ abstract public class MultithreadedInitializationTest {
         return 0;
     }
 
+    /**
+     * Invoked once all accessing threads have completed, before waiting for
+     * an initialization running in the background.
+     */
+    protected void accessorsCompleted() {
+    }
+
     private void assertAllSubstLoggersAreFixed() {
         for (Logger logger : createdLoggers) {
             if (logger instanceof SubstituteLogger) {
@@ -0,0 +1,47 @@
+package org.slf4j.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ *
+ * <p>Accepts the same command line options as <code>org.openjdk.jmh.Main</code>
+ * but always enables the GC profiler, so that the allocation rate of each
+ * benchmark is reported, and unless told otherwise writes the results in JSON
+ * format to {@value #DEFAULT_RESULT_FILE}. The JSON file is meant to be kept
+ * in order to compare results across releases.</p>
+ *
+ * <pre>
+ * java -jar slf4j-benchmarks/target/benchmarks.jar [regexp] [jmh options]
+ * </pre>
+ *
+ * @since 2.0.17
+ */
+public class BenchmarkMain {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListProfilers()
+                        || cmdOptions.shouldListResultFormats() || cmdOptions.shouldListWithParams()) {
+            // informational options are handled by the stock JMH entry point
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions).addProfiler(GCProfiler.class);
+        if (!cmdOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmdOptions.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(builder.build()).run();
+    }
+}
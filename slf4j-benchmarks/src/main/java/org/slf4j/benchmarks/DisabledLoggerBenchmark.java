@@ -0,0 +1,96 @@
+package org.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.ext.LoggerWrapper;
+import org.slf4j.helpers.NOPLogger;
+import org.slf4j.helpers.SubstituteLogger;
+
+/**
+ * Measures logging calls made at a disabled level, which should cost next to
+ * nothing and allocate nothing beyond the varargs array of the call site.
+ *
+ * @since 2.0.17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisabledLoggerBenchmark {
+
+    @Param({ "NOPLogger", "SubstituteLogger", "LoggerWrapper" })
+    String loggerType;
+
+    Logger logger;
+    String user;
+    Integer count;
+    Object other;
+
+    @Setup
+    public void setUp() {
+        switch (loggerType) {
+        case "NOPLogger":
+            logger = NOPLogger.NOP_LOGGER;
+            break;
+        case "SubstituteLogger":
+            SubstituteLogger substituteLogger = new SubstituteLogger("bench", null, true);
+            substituteLogger.setDelegate(NOPLogger.NOP_LOGGER);
+            logger = substituteLogger;
+            break;
+        case "LoggerWrapper":
+            logger = new LoggerWrapper(NOPLogger.NOP_LOGGER, LoggerWrapper.class.getName());
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown logger type " + loggerType);
+        }
+        user = "alice";
+        count = 42;
+        other = new Object();
+    }
+
+    @Benchmark
+    public void noArguments() {
+        logger.debug("user logged in");
+    }
+
+    @Benchmark
+    public void oneArgument() {
+        logger.debug("user {} logged in", user);
+    }
+
+    @Benchmark
+    public void twoArguments() {
+        logger.debug("user {} logged in {} times", user, count);
+    }
+
+    @Benchmark
+    public void threeArguments() {
+        logger.debug("user {} logged in {} times from {}", user, count, other);
+    }
+
+    @Benchmark
+    public void primitiveArgument() {
+        logger.debug("count is {}", 42);
+    }
+
+    @Benchmark
+    public void guardedCall() {
+        if (logger.isDebugEnabled()) {
+            logger.debug("user {} logged in {} times from {}", user, count, other);
+        }
+    }
+}
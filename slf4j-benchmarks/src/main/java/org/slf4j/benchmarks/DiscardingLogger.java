@@ -0,0 +1,60 @@
+package org.slf4j.benchmarks;
+
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+
+/**
+ * A logger enabled for INFO and above which retains the last call it received
+ * instead of writing it anywhere. Retaining the call keeps the JIT from
+ * eliminating the work leading up to it.
+ *
+ * @since 2.0.17
+ */
+class DiscardingLogger extends LegacyAbstractLogger {
+
+    private static final long serialVersionUID = 1L;
+
+    String lastMessagePattern;
+    Object[] lastArguments;
+
+    DiscardingLogger(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return true;
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern, Object[] arguments, Throwable throwable) {
+        lastMessagePattern = messagePattern;
+        lastArguments = arguments;
+    }
+}
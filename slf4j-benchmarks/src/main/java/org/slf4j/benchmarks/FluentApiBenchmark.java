@@ -0,0 +1,63 @@
+package org.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the fluent logging API, from the creation of the
+ * {@link org.slf4j.spi.LoggingEventBuilder} to the delivery of the event to
+ * the logger.
+ *
+ * @since 2.0.17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FluentApiBenchmark {
+
+    DiscardingLogger logger;
+    String user;
+    Integer count;
+
+    @Setup
+    public void setUp() {
+        logger = new DiscardingLogger("bench");
+        user = "alice";
+        count = 42;
+    }
+
+    @Benchmark
+    public String enabledWithKeyValue() {
+        logger.atInfo().addKeyValue("user", user).log("user logged in");
+        return logger.lastMessagePattern;
+    }
+
+    @Benchmark
+    public String enabledWithArgumentsAndKeyValues() {
+        logger.atInfo().addArgument(user).addArgument(count).addKeyValue("user", user).addKeyValue("count", count).log("user {} logged in {} times");
+        return logger.lastMessagePattern;
+    }
+
+    @Benchmark
+    public void disabledWithKeyValue() {
+        logger.atDebug().addKeyValue("user", user).log("user logged in");
+    }
+
+    @Benchmark
+    public void disabledWithSupplier() {
+        logger.atDebug().addArgument(() -> user).log("user {} logged in");
+    }
+}
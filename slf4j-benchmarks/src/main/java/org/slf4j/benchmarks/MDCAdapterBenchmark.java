@@ -0,0 +1,65 @@
+package org.slf4j.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.BasicMDCAdapter;
+
+/**
+ * Measures the operations of {@link BasicMDCAdapter} performed around each
+ * unit of work, typically a request, and when an event captures the context.
+ *
+ * @since 2.0.17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MDCAdapterBenchmark {
+
+    BasicMDCAdapter mdcAdapter;
+
+    @Setup
+    public void setUp() {
+        mdcAdapter = new BasicMDCAdapter();
+        mdcAdapter.put("user", "alice");
+        mdcAdapter.put("session", "a1b2c3");
+        mdcAdapter.put("tenant", "acme");
+    }
+
+    @Benchmark
+    public String putGetRemove() {
+        mdcAdapter.put("requestId", "42");
+        String value = mdcAdapter.get("requestId");
+        mdcAdapter.remove("requestId");
+        return value;
+    }
+
+    @Benchmark
+    public String get() {
+        return mdcAdapter.get("user");
+    }
+
+    @Benchmark
+    public Map<String, String> getCopyOfContextMap() {
+        return mdcAdapter.getCopyOfContextMap();
+    }
+
+    @Benchmark
+    public String pushPopByKey() {
+        mdcAdapter.pushByKey("operation", "checkout");
+        return mdcAdapter.popByKey("operation");
+    }
+}
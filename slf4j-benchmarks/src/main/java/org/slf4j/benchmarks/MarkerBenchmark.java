@@ -0,0 +1,78 @@
+package org.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.Marker;
+import org.slf4j.helpers.BasicMarkerFactory;
+
+/**
+ * Measures {@link Marker#contains(Marker)} and {@link Marker#contains(String)}
+ * on a small marker hierarchy, for hits at various depths and for misses,
+ * which have to visit the whole hierarchy.
+ *
+ * @since 2.0.17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarkerBenchmark {
+
+    Marker root;
+    Marker child;
+    Marker grandChild;
+    Marker unrelated;
+
+    @Setup
+    public void setUp() {
+        IMarkerFactory factory = new BasicMarkerFactory();
+        root = factory.getMarker("ROOT");
+        child = factory.getMarker("CHILD");
+        grandChild = factory.getMarker("GRAND_CHILD");
+        unrelated = factory.getMarker("UNRELATED");
+
+        root.add(factory.getMarker("SIBLING_1"));
+        root.add(factory.getMarker("SIBLING_2"));
+        root.add(child);
+        child.add(factory.getMarker("SIBLING_3"));
+        child.add(grandChild);
+    }
+
+    @Benchmark
+    public boolean containsSelf() {
+        return root.contains(root);
+    }
+
+    @Benchmark
+    public boolean containsGrandChild() {
+        return root.contains(grandChild);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return root.contains(unrelated);
+    }
+
+    @Benchmark
+    public boolean containsGrandChildByName() {
+        return root.contains("GRAND_CHILD");
+    }
+
+    @Benchmark
+    public boolean containsMissByName() {
+        return root.contains("UNRELATED");
+    }
+}
@@ -0,0 +1,91 @@
+package org.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Measures {@link MessageFormatter} for the argument shapes most frequently
+ * found in log statements.
+ *
+ * @since 2.0.17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageFormatterBenchmark {
+
+    static final Object[] NO_ARGS = new Object[0];
+
+    String user;
+    Integer count;
+    Object[] fiveArgs;
+    Object[] objectArrayArg;
+    Object[] intArrayArg;
+    StringBuilder sbuf;
+
+    @Setup
+    public void setUp() {
+        user = "alice";
+        count = 42;
+        fiveArgs = new Object[] { "alice", 42, 3.14d, Boolean.TRUE, 'x' };
+        objectArrayArg = new Object[] { new Object[] { "a", "b", "c" } };
+        intArrayArg = new Object[] { new int[] { 1, 2, 3, 4, 5, 6, 7, 8 } };
+        sbuf = new StringBuilder(256);
+    }
+
+    @Benchmark
+    public String noArguments() {
+        return MessageFormatter.basicArrayFormat("user logged in", NO_ARGS);
+    }
+
+    @Benchmark
+    public String oneArgument() {
+        return MessageFormatter.format("user {} logged in", user).getMessage();
+    }
+
+    @Benchmark
+    public String twoArguments() {
+        return MessageFormatter.format("user {} logged in {} times", user, count).getMessage();
+    }
+
+    @Benchmark
+    public String fiveArguments() {
+        return MessageFormatter.basicArrayFormat("a={} b={} c={} d={} e={}", fiveArgs);
+    }
+
+    @Benchmark
+    public String objectArrayArgument() {
+        return MessageFormatter.basicArrayFormat("values={}", objectArrayArg);
+    }
+
+    @Benchmark
+    public String primitiveArrayArgument() {
+        return MessageFormatter.basicArrayFormat("values={}", intArrayArg);
+    }
+
+    @Benchmark
+    public String escapedDelimiters() {
+        return MessageFormatter.format("set \\{} is {} and path C:\\\\{}", user, count).getMessage();
+    }
+
+    @Benchmark
+    public StringBuilder formatToReusedBuffer() {
+        sbuf.setLength(0);
+        MessageFormatter.formatTo(sbuf, "a={} b={} c={} d={} e={}", fiveArgs);
+        return sbuf;
+    }
+}
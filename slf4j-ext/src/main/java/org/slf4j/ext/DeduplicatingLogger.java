@@ -0,0 +1,887 @@
+package org.slf4j.ext;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LocationAwareLogger;
+
+/**
+ * A logger dropping the repetitions of a message which occur within a given
+ * window after the message was logged, and reporting their number once the
+ * window has closed.
+ *
+ * <p>A message is identified by its fingerprint: its level, its marker, its
+ * message pattern and the type of its throwable, if any. The message is
+ * neither formatted nor are its arguments rendered to compute the
+ * fingerprint, so that dropping a repetition costs a map lookup and an atomic
+ * increment. For example, within a window of one minute,</p>
+ *
+ * <pre>
+ * logger.warn("Call to {} timed out", endpoint, e);
+ * </pre>
+ *
+ * <p>is logged the first time only, whatever the endpoint. The next
+ * occurrence after the window has closed is preceded by a summary such as
+ * <code>"Call to {} timed out" with java.net.SocketTimeoutException repeated
+ * 18234 more times within 60000 ms</code>, and opens a new window. Summaries
+ * are logged at the level, and with the marker, of the message they
+ * summarize.</p>
+ *
+ * <p>Messages whose window has closed without a new occurrence are summarized
+ * lazily, by the next call logging any message through this logger, which
+ * sweeps the closed windows at most once per window. A burst followed by
+ * silence is thus only reported once something else gets logged. Callers
+ * which cannot rely on that should invoke {@link #flush()} periodically, and
+ * at shutdown in any case, to log the pending summaries right away.</p>
+ *
+ * <p>The fingerprints of the most recent messages are kept in a bounded
+ * map. When the bound is exceeded, the entries whose window has closed are
+ * evicted, or failing that the least recently seen one, and their summaries
+ * logged.</p>
+ *
+ * <p>Unlike other wrappers, instances of this class have state. Homonyms do
+ * not share it; instances are thus meant to be kept in static fields.</p>
+ *
+ * @since 2.0.17
+ */
+public class DeduplicatingLogger extends LoggerWrapper {
+
+    static final int DEFAULT_MAX_FINGERPRINTS = 256;
+
+    static final String SUMMARY_PATTERN = "\"{}\" repeated {} more times within {} ms";
+    static final String SUMMARY_WITH_THROWABLE_PATTERN = "\"{}\" with {} repeated {} more times within {} ms";
+
+    private static final String FQCN = DeduplicatingLogger.class.getName();
+
+    private final long windowNanos;
+    private final int maxFingerprints;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentMap<Fingerprint, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // the time from which the next logging call sweeps the closed windows
+    private final AtomicLong nextSweep;
+
+    /**
+     * Creates a logger dropping repetitions within the given window, and
+     * remembering up to 256 distinct messages.
+     *
+     * @param logger the logger to wrap
+     * @param window the length of the window
+     * @param unit the unit of window
+     */
+    public DeduplicatingLogger(Logger logger, long window, TimeUnit unit) {
+        this(logger, window, unit, DEFAULT_MAX_FINGERPRINTS);
+    }
+
+    /**
+     * Creates a logger dropping repetitions within the given window, and
+     * remembering up to maxFingerprints distinct messages.
+     *
+     * @param logger the logger to wrap
+     * @param window the length of the window
+     * @param unit the unit of window
+     * @param maxFingerprints the number of distinct messages remembered, at least 1
+     */
+    public DeduplicatingLogger(Logger logger, long window, TimeUnit unit, int maxFingerprints) {
+        this(logger, unit.toNanos(window), maxFingerprints, System::nanoTime);
+    }
+
+    DeduplicatingLogger(Logger logger, long windowNanos, int maxFingerprints, LongSupplier nanoClock) {
+        super(logger, FQCN);
+        if (windowNanos <= 0) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        if (maxFingerprints < 1) {
+            throw new IllegalArgumentException("maxFingerprints must be at least 1, was " + maxFingerprints);
+        }
+        this.windowNanos = windowNanos;
+        this.maxFingerprints = maxFingerprints;
+        this.nanoClock = nanoClock;
+        this.nextSweep = new AtomicLong(nanoClock.getAsLong() + windowNanos);
+    }
+
+    /**
+     * Logs the summaries of the repetitions dropped so far, and forgets all
+     * messages, so that their next occurrence is logged.
+     */
+    public void flush() {
+        for (Entry entry : entries.values()) {
+            close(entry);
+        }
+    }
+
+    // Returns true if the message is to be logged, after logging the summary of the
+    // previous window of the message if any.
+    private boolean admit(Level level, Marker marker, String pattern, Object throwableCandidate) {
+        Class<?> throwableClass = throwableCandidate instanceof Throwable ? throwableCandidate.getClass() : null;
+        Fingerprint fingerprint = new Fingerprint(level, marker, pattern, throwableClass);
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+
+        while (true) {
+            Entry entry = entries.get(fingerprint);
+            if (entry == null) {
+                Entry newEntry = new Entry(fingerprint, now);
+                entry = entries.putIfAbsent(fingerprint, newEntry);
+                if (entry == null) {
+                    evictIfFull(now);
+                    return true;
+                }
+            }
+
+            entry.lastSeen = now;
+            long windowStart = entry.windowStart.get();
+            if (now - windowStart < windowNanos || !entry.windowStart.compareAndSet(windowStart, now)) {
+                // within the window, or another thread has just opened a new one
+                if (entry.suppress()) {
+                    return false;
+                }
+                // closed meanwhile, its summary logged without this occurrence: start afresh
+                continue;
+            }
+            long suppressed = entry.drain(0);
+            if (suppressed == Entry.CLOSED) {
+                continue;
+            }
+            if (suppressed > 0) {
+                logSummary(fingerprint, suppressed);
+            }
+            return true;
+        }
+    }
+
+    // Closes the entries whose window has closed, at most once per window.
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + windowNanos)) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            for (Entry entry : entries.values()) {
+                if (now - entry.windowStart.get() >= windowNanos) {
+                    close(entry);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evictIfFull(long now) {
+        if (entries.size() <= maxFingerprints || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Entry leastRecentlySeen = null;
+            for (Entry entry : entries.values()) {
+                if (now - entry.windowStart.get() >= windowNanos) {
+                    close(entry);
+                } else if (leastRecentlySeen == null || entry.lastSeen - leastRecentlySeen.lastSeen < 0) {
+                    leastRecentlySeen = entry;
+                }
+            }
+            if (entries.size() > maxFingerprints && leastRecentlySeen != null) {
+                close(leastRecentlySeen);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void close(Entry entry) {
+        if (entries.remove(entry.fingerprint, entry)) {
+            long suppressed = entry.drain(Entry.CLOSED);
+            if (suppressed > 0) {
+                logSummary(entry.fingerprint, suppressed);
+            }
+        }
+    }
+
+    private void logSummary(Fingerprint fingerprint, long suppressed) {
+        long windowMillis = TimeUnit.NANOSECONDS.toMillis(windowNanos);
+        String summaryPattern;
+        Object[] args;
+        if (fingerprint.throwableClass == null) {
+            summaryPattern = SUMMARY_PATTERN;
+            args = new Object[] { fingerprint.pattern, suppressed, windowMillis };
+        } else {
+            summaryPattern = SUMMARY_WITH_THROWABLE_PATTERN;
+            args = new Object[] { fingerprint.pattern, fingerprint.throwableClass.getName(), suppressed, windowMillis };
+        }
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(fingerprint.marker, fqcn, fingerprint.level.toInt(), summaryPattern, args, null);
+            return;
+        }
+        switch (fingerprint.level) {
+        case TRACE:
+            logger.trace(fingerprint.marker, summaryPattern, args);
+            break;
+        case DEBUG:
+            logger.debug(fingerprint.marker, summaryPattern, args);
+            break;
+        case INFO:
+            logger.info(fingerprint.marker, summaryPattern, args);
+            break;
+        case WARN:
+            logger.warn(fingerprint.marker, summaryPattern, args);
+            break;
+        case ERROR:
+            logger.error(fingerprint.marker, summaryPattern, args);
+            break;
+        }
+    }
+
+    private static Object lastOf(Object[] args) {
+        return args == null || args.length == 0 ? null : args[args.length - 1];
+    }
+
+    static final class Fingerprint {
+        final Level level;
+        final Marker marker;
+        final String pattern;
+        final Class<?> throwableClass;
+        private final int hash;
+
+        Fingerprint(Level level, Marker marker, String pattern, Class<?> throwableClass) {
+            this.level = level;
+            this.marker = marker;
+            this.pattern = pattern;
+            this.throwableClass = throwableClass;
+            int h = level.hashCode();
+            h = 31 * h + Objects.hashCode(marker);
+            h = 31 * h + Objects.hashCode(pattern);
+            this.hash = 31 * h + Objects.hashCode(throwableClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Fingerprint)) {
+                return false;
+            }
+            Fingerprint other = (Fingerprint) obj;
+            return hash == other.hash && level == other.level && throwableClass == other.throwableClass
+                            && Objects.equals(pattern, other.pattern) && Objects.equals(marker, other.marker);
+        }
+    }
+
+    static final class Entry {
+        // the value of suppressed once the entry has been closed
+        static final long CLOSED = -1;
+
+        final Fingerprint fingerprint;
+        // the time at which the message was last logged
+        final AtomicLong windowStart;
+        final AtomicLong suppressed = new AtomicLong();
+        volatile long lastSeen;
+
+        Entry(Fingerprint fingerprint, long now) {
+            this.fingerprint = fingerprint;
+            this.windowStart = new AtomicLong(now);
+            this.lastSeen = now;
+        }
+
+        // Counts one more repetition, unless the entry has been closed.
+        boolean suppress() {
+            long count;
+            do {
+                count = suppressed.get();
+                if (count == CLOSED) {
+                    return false;
+                }
+            } while (!suppressed.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        // Returns the repetitions counted so far and replaces them with
+        // newValue in one step, or returns CLOSED if the entry has been closed.
+        long drain(long newValue) {
+            long count;
+            do {
+                count = suppressed.get();
+                if (count == CLOSED) {
+                    return CLOSED;
+                }
+            } while (!suppressed.compareAndSet(count, newValue));
+            return count;
+        }
+    }
+
+    @Override
+    public void trace(String msg) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, msg, null)) {
+            super.trace(msg);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, format, arg)) {
+            super.trace(format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, format, arg2)) {
+            super.trace(format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object... args) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, format, lastOf(args))) {
+            super.trace(format, args);
+        }
+    }
+
+    @Override
+    public void trace(String msg, Throwable t) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, msg, t)) {
+            super.trace(msg, t);
+        }
+    }
+
+    @Override
+    public void trace(String format, int arg) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, format, null)) {
+            super.trace(format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, long arg) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, format, null)) {
+            super.trace(format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, float arg) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, format, null)) {
+            super.trace(format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, double arg) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, format, null)) {
+            super.trace(format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, boolean arg) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, format, null)) {
+            super.trace(format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, char arg) {
+        if (logger.isTraceEnabled() && admit(Level.TRACE, null, format, null)) {
+            super.trace(format, arg);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg) {
+        if (logger.isTraceEnabled(marker) && admit(Level.TRACE, marker, msg, null)) {
+            super.trace(marker, msg);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object arg) {
+        if (logger.isTraceEnabled(marker) && admit(Level.TRACE, marker, format, arg)) {
+            super.trace(marker, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object arg1, Object arg2) {
+        if (logger.isTraceEnabled(marker) && admit(Level.TRACE, marker, format, arg2)) {
+            super.trace(marker, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object... args) {
+        if (logger.isTraceEnabled(marker) && admit(Level.TRACE, marker, format, lastOf(args))) {
+            super.trace(marker, format, args);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Throwable t) {
+        if (logger.isTraceEnabled(marker) && admit(Level.TRACE, marker, msg, t)) {
+            super.trace(marker, msg, t);
+        }
+    }
+
+    @Override
+    public void debug(String msg) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, msg, null)) {
+            super.debug(msg);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, format, arg)) {
+            super.debug(format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, format, arg2)) {
+            super.debug(format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object... args) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, format, lastOf(args))) {
+            super.debug(format, args);
+        }
+    }
+
+    @Override
+    public void debug(String msg, Throwable t) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, msg, t)) {
+            super.debug(msg, t);
+        }
+    }
+
+    @Override
+    public void debug(String format, int arg) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, format, null)) {
+            super.debug(format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, long arg) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, format, null)) {
+            super.debug(format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, float arg) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, format, null)) {
+            super.debug(format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, double arg) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, format, null)) {
+            super.debug(format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, boolean arg) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, format, null)) {
+            super.debug(format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, char arg) {
+        if (logger.isDebugEnabled() && admit(Level.DEBUG, null, format, null)) {
+            super.debug(format, arg);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg) {
+        if (logger.isDebugEnabled(marker) && admit(Level.DEBUG, marker, msg, null)) {
+            super.debug(marker, msg);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object arg) {
+        if (logger.isDebugEnabled(marker) && admit(Level.DEBUG, marker, format, arg)) {
+            super.debug(marker, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object arg1, Object arg2) {
+        if (logger.isDebugEnabled(marker) && admit(Level.DEBUG, marker, format, arg2)) {
+            super.debug(marker, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object... args) {
+        if (logger.isDebugEnabled(marker) && admit(Level.DEBUG, marker, format, lastOf(args))) {
+            super.debug(marker, format, args);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Throwable t) {
+        if (logger.isDebugEnabled(marker) && admit(Level.DEBUG, marker, msg, t)) {
+            super.debug(marker, msg, t);
+        }
+    }
+
+    @Override
+    public void info(String msg) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, msg, null)) {
+            super.info(msg);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, format, arg)) {
+            super.info(format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, format, arg2)) {
+            super.info(format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void info(String format, Object... args) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, format, lastOf(args))) {
+            super.info(format, args);
+        }
+    }
+
+    @Override
+    public void info(String msg, Throwable t) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, msg, t)) {
+            super.info(msg, t);
+        }
+    }
+
+    @Override
+    public void info(String format, int arg) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, format, null)) {
+            super.info(format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, long arg) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, format, null)) {
+            super.info(format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, float arg) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, format, null)) {
+            super.info(format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, double arg) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, format, null)) {
+            super.info(format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, boolean arg) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, format, null)) {
+            super.info(format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, char arg) {
+        if (logger.isInfoEnabled() && admit(Level.INFO, null, format, null)) {
+            super.info(format, arg);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg) {
+        if (logger.isInfoEnabled(marker) && admit(Level.INFO, marker, msg, null)) {
+            super.info(marker, msg);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object arg) {
+        if (logger.isInfoEnabled(marker) && admit(Level.INFO, marker, format, arg)) {
+            super.info(marker, format, arg);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object arg1, Object arg2) {
+        if (logger.isInfoEnabled(marker) && admit(Level.INFO, marker, format, arg2)) {
+            super.info(marker, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object... args) {
+        if (logger.isInfoEnabled(marker) && admit(Level.INFO, marker, format, lastOf(args))) {
+            super.info(marker, format, args);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Throwable t) {
+        if (logger.isInfoEnabled(marker) && admit(Level.INFO, marker, msg, t)) {
+            super.info(marker, msg, t);
+        }
+    }
+
+    @Override
+    public void warn(String msg) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, msg, null)) {
+            super.warn(msg);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, format, arg)) {
+            super.warn(format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, format, arg2)) {
+            super.warn(format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object... args) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, format, lastOf(args))) {
+            super.warn(format, args);
+        }
+    }
+
+    @Override
+    public void warn(String msg, Throwable t) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, msg, t)) {
+            super.warn(msg, t);
+        }
+    }
+
+    @Override
+    public void warn(String format, int arg) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, format, null)) {
+            super.warn(format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, long arg) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, format, null)) {
+            super.warn(format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, float arg) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, format, null)) {
+            super.warn(format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, double arg) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, format, null)) {
+            super.warn(format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, boolean arg) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, format, null)) {
+            super.warn(format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, char arg) {
+        if (logger.isWarnEnabled() && admit(Level.WARN, null, format, null)) {
+            super.warn(format, arg);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg) {
+        if (logger.isWarnEnabled(marker) && admit(Level.WARN, marker, msg, null)) {
+            super.warn(marker, msg);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object arg) {
+        if (logger.isWarnEnabled(marker) && admit(Level.WARN, marker, format, arg)) {
+            super.warn(marker, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object arg1, Object arg2) {
+        if (logger.isWarnEnabled(marker) && admit(Level.WARN, marker, format, arg2)) {
+            super.warn(marker, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object... args) {
+        if (logger.isWarnEnabled(marker) && admit(Level.WARN, marker, format, lastOf(args))) {
+            super.warn(marker, format, args);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Throwable t) {
+        if (logger.isWarnEnabled(marker) && admit(Level.WARN, marker, msg, t)) {
+            super.warn(marker, msg, t);
+        }
+    }
+
+    @Override
+    public void error(String msg) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, msg, null)) {
+            super.error(msg);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, format, arg)) {
+            super.error(format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, format, arg2)) {
+            super.error(format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void error(String format, Object... args) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, format, lastOf(args))) {
+            super.error(format, args);
+        }
+    }
+
+    @Override
+    public void error(String msg, Throwable t) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, msg, t)) {
+            super.error(msg, t);
+        }
+    }
+
+    @Override
+    public void error(String format, int arg) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, format, null)) {
+            super.error(format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, long arg) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, format, null)) {
+            super.error(format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, float arg) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, format, null)) {
+            super.error(format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, double arg) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, format, null)) {
+            super.error(format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, boolean arg) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, format, null)) {
+            super.error(format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, char arg) {
+        if (logger.isErrorEnabled() && admit(Level.ERROR, null, format, null)) {
+            super.error(format, arg);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg) {
+        if (logger.isErrorEnabled(marker) && admit(Level.ERROR, marker, msg, null)) {
+            super.error(marker, msg);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object arg) {
+        if (logger.isErrorEnabled(marker) && admit(Level.ERROR, marker, format, arg)) {
+            super.error(marker, format, arg);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object arg1, Object arg2) {
+        if (logger.isErrorEnabled(marker) && admit(Level.ERROR, marker, format, arg2)) {
+            super.error(marker, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object... args) {
+        if (logger.isErrorEnabled(marker) && admit(Level.ERROR, marker, format, lastOf(args))) {
+            super.error(marker, format, args);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Throwable t) {
+        if (logger.isErrorEnabled(marker) && admit(Level.ERROR, marker, msg, t)) {
+            super.error(marker, msg, t);
+        }
+    }
+}
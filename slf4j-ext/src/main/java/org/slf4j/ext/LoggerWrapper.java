@@ -145,6 +145,90 @@ public class LoggerWrapper implements Logger {
         }
     }
 
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void trace(String format, int arg) {
+        if (!logger.isTraceEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.TRACE_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.trace(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void trace(String format, long arg) {
+        if (!logger.isTraceEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.TRACE_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.trace(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void trace(String format, float arg) {
+        if (!logger.isTraceEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.TRACE_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.trace(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void trace(String format, double arg) {
+        if (!logger.isTraceEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.TRACE_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.trace(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void trace(String format, boolean arg) {
+        if (!logger.isTraceEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.TRACE_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.trace(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void trace(String format, char arg) {
+        if (!logger.isTraceEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.TRACE_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.trace(format, arg);
+        }
+    }
+
     /**
      * Delegate to the appropriate method of the underlying logger.
      */
@@ -294,6 +378,90 @@ public class LoggerWrapper implements Logger {
         }
     }
 
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void debug(String format, int arg) {
+        if (!logger.isDebugEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.DEBUG_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.debug(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void debug(String format, long arg) {
+        if (!logger.isDebugEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.DEBUG_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.debug(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void debug(String format, float arg) {
+        if (!logger.isDebugEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.DEBUG_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.debug(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void debug(String format, double arg) {
+        if (!logger.isDebugEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.DEBUG_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.debug(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void debug(String format, boolean arg) {
+        if (!logger.isDebugEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.DEBUG_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.debug(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void debug(String format, char arg) {
+        if (!logger.isDebugEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.DEBUG_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.debug(format, arg);
+        }
+    }
+
     /**
      * Delegate to the appropriate method of the underlying logger.
      */
@@ -444,6 +612,90 @@ public class LoggerWrapper implements Logger {
         }
     }
 
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void info(String format, int arg) {
+        if (!logger.isInfoEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.INFO_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.info(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void info(String format, long arg) {
+        if (!logger.isInfoEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.INFO_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.info(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void info(String format, float arg) {
+        if (!logger.isInfoEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.INFO_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.info(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void info(String format, double arg) {
+        if (!logger.isInfoEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.INFO_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.info(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void info(String format, boolean arg) {
+        if (!logger.isInfoEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.INFO_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.info(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void info(String format, char arg) {
+        if (!logger.isInfoEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.INFO_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.info(format, arg);
+        }
+    }
+
     /**
      * Delegate to the appropriate method of the underlying logger.
      */
@@ -590,6 +842,90 @@ public class LoggerWrapper implements Logger {
         }
     }
 
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void warn(String format, int arg) {
+        if (!logger.isWarnEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.WARN_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.warn(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void warn(String format, long arg) {
+        if (!logger.isWarnEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.WARN_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.warn(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void warn(String format, float arg) {
+        if (!logger.isWarnEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.WARN_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.warn(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void warn(String format, double arg) {
+        if (!logger.isWarnEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.WARN_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.warn(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void warn(String format, boolean arg) {
+        if (!logger.isWarnEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.WARN_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.warn(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void warn(String format, char arg) {
+        if (!logger.isWarnEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.WARN_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.warn(format, arg);
+        }
+    }
+
     /**
      * Delegate to the appropriate method of the underlying logger.
      */
@@ -739,6 +1075,90 @@ public class LoggerWrapper implements Logger {
         }
     }
 
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void error(String format, int arg) {
+        if (!logger.isErrorEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.ERROR_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.error(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void error(String format, long arg) {
+        if (!logger.isErrorEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.ERROR_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.error(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void error(String format, float arg) {
+        if (!logger.isErrorEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.ERROR_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.error(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void error(String format, double arg) {
+        if (!logger.isErrorEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.ERROR_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.error(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void error(String format, boolean arg) {
+        if (!logger.isErrorEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.ERROR_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.error(format, arg);
+        }
+    }
+
+    /**
+     * Delegate to the appropriate method of the underlying logger.
+     */
+    public void error(String format, char arg) {
+        if (!logger.isErrorEnabled())
+            return;
+
+        if (instanceofLAL) {
+            ((LocationAwareLogger) logger).log(null, fqcn, LocationAwareLogger.ERROR_INT, format, new Object[] { arg }, null);
+        } else {
+            logger.error(format, arg);
+        }
+    }
+
     /**
      * Delegate to the appropriate method of the underlying logger.
      */
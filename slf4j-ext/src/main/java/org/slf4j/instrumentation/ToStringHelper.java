@@ -24,8 +24,10 @@
  */
 package org.slf4j.instrumentation;
 
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.helpers.ArgumentRenderers;
+import org.slf4j.spi.ArgumentRenderer;
 
 public class ToStringHelper {
 
@@ -47,23 +49,26 @@ public class ToStringHelper {
     private static final char[] ELEMENT_SEPARATOR = ", ".toCharArray();
 
     /**
-     * unrenderableClasses is essentially a Set of Class objects which has for
-     * some reason failed to render properly when invoked through a toString
-     * method call. To avoid memory leaks a data structure using weak references
-     * is needed, but unfortunately the runtime library does not contain a
-     * WeakHashSet class, so the behavior is emulated with a WeakHashmap with
-     * the class as the key, and a Long containing the value of
-     * System.currentTimeMillis when an instance of the class failed to render.
+     * Records, per class, whether an instance has failed to render properly
+     * when invoked through a toString method call. Such classes are no longer
+     * rendered with toString. Being a ClassValue, the record does not keep
+     * classes from being unloaded and is safe for concurrent use.
      */
-
-    final static Map<Class<?>, Object> unrenderableClasses = new WeakHashMap<>();
+    final static ClassValue<AtomicBoolean> unrenderableClasses = new ClassValue<AtomicBoolean>() {
+        @Override
+        protected AtomicBoolean computeValue(Class<?> type) {
+            return new AtomicBoolean();
+        }
+    };
 
     /**
-     * Returns o.toString() unless it throws an exception (which causes it to be
-     * stored in unrenderableClasses) or already was present in
-     * unrenderableClasses. If so, the same string is returned as would have
-     * been returned by Object.toString(). Arrays get special treatment as they
-     * don't have usable toString methods.
+     * Returns o.toString() unless it throws an exception (which causes its class
+     * to be marked in unrenderableClasses) or its class was already marked. If
+     * so, the same string is returned as would have been returned by
+     * Object.toString(). Objects for which an {@link ArgumentRenderer} is
+     * registered in {@link ArgumentRenderers} are rendered by that renderer
+     * instead of toString. Arrays get special treatment as they don't have
+     * usable toString methods.
      * 
      * @param o
      *            incoming object to render.
@@ -76,19 +81,23 @@ public class ToStringHelper {
         }
         Class<?> objectClass = o.getClass();
 
-        if (unrenderableClasses.containsKey(objectClass) == false) {
+        AtomicBoolean unrenderable = unrenderableClasses.get(objectClass);
+        if (!unrenderable.get()) {
             try {
                 if (objectClass.isArray()) {
                     return renderArray(o, objectClass).toString();
-                } else {
-                    return o.toString();
                 }
+                ArgumentRenderer<Object> renderer = ArgumentRenderers.lookup(objectClass);
+                if (renderer != null) {
+                    StringBuilder sb = new StringBuilder();
+                    renderer.render(sb, o);
+                    return sb.toString();
+                }
+                return o.toString();
             } catch (Exception e) {
-                Long now = Long.valueOf(System.currentTimeMillis());
-
                 System.err.println("Disabling exception throwing class " + objectClass.getName() + ", " + e.getMessage());
 
-                unrenderableClasses.put(objectClass, now);
+                unrenderable.set(true);
             }
         }
         String name = o.getClass().getName();
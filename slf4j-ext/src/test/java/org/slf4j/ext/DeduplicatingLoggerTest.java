@@ -0,0 +1,146 @@
+package org.slf4j.ext;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.dummyExt.ListAppender;
+
+public class DeduplicatingLoggerTest {
+
+    static final long WINDOW = TimeUnit.SECONDS.toNanos(10);
+
+    ListAppender listAppender;
+    org.apache.log4j.Logger log4jRoot;
+    AtomicLong clock = new AtomicLong(7);
+    DeduplicatingLogger logger;
+
+    @Before
+    public void setUp() {
+        listAppender = new ListAppender();
+        listAppender.extractLocationInfo = true;
+        log4jRoot = org.apache.log4j.Logger.getRootLogger();
+        log4jRoot.addAppender(listAppender);
+        log4jRoot.setLevel(org.apache.log4j.Level.TRACE);
+        logger = newLogger(4);
+    }
+
+    @After
+    public void tearDown() {
+        log4jRoot.removeAppender(listAppender);
+    }
+
+    DeduplicatingLogger newLogger(int maxFingerprints) {
+        return new DeduplicatingLogger(LoggerFactory.getLogger(DeduplicatingLoggerTest.class), WINDOW, maxFingerprints, clock::get);
+    }
+
+    LoggingEvent event(int index) {
+        return listAppender.list.get(index);
+    }
+
+    @Test
+    public void repetitionsWithinWindowAreDropped() {
+        for (int i = 0; i < 5; i++) {
+            logger.warn("Call to {} timed out", "host" + i);
+        }
+        assertEquals(1, listAppender.list.size());
+        assertEquals("Call to host0 timed out", event(0).getMessage());
+        assertEquals("DeduplicatingLoggerTest.java", event(0).getLocationInformation().getFileName());
+    }
+
+    @Test
+    public void summaryPrecedesFirstOccurrenceAfterWindow() {
+        for (int i = 0; i < 4; i++) {
+            logger.warn("Call to {} timed out", "host" + i);
+        }
+        clock.addAndGet(WINDOW);
+        logger.warn("Call to {} timed out", "hostX");
+
+        assertEquals(3, listAppender.list.size());
+        assertEquals("\"Call to {} timed out\" repeated 3 more times within 10000 ms", event(1).getMessage());
+        assertEquals(org.apache.log4j.Level.WARN, event(1).getLevel());
+        assertEquals("DeduplicatingLoggerTest.java", event(1).getLocationInformation().getFileName());
+        assertEquals("Call to hostX timed out", event(2).getMessage());
+    }
+
+    @Test
+    public void fingerprintIncludesLevelAndThrowableType() {
+        logger.warn("failed", new IOException());
+        logger.warn("failed", new IOException());
+        logger.warn("failed", new IllegalStateException());
+        logger.error("failed", new IOException());
+        logger.warn("failed");
+        assertEquals(4, listAppender.list.size());
+
+        logger.flush();
+        assertEquals(5, listAppender.list.size());
+        assertEquals("\"failed\" with java.io.IOException repeated 1 more times within 10000 ms", event(4).getMessage());
+    }
+
+    @Test
+    public void disabledLevelsAreNotCounted() {
+        log4jRoot.setLevel(org.apache.log4j.Level.INFO);
+        logger.debug("x");
+        logger.debug("x");
+        logger.flush();
+        assertEquals(0, listAppender.list.size());
+    }
+
+    @Test
+    public void evictionLogsSummaries() {
+        DeduplicatingLogger small = newLogger(2);
+        small.info("a");
+        small.info("a");
+        clock.incrementAndGet();
+        small.info("b");
+        clock.incrementAndGet();
+        // "a" is the least recently seen message
+        small.info("c");
+
+        assertEquals(4, listAppender.list.size());
+        assertEquals("\"a\" repeated 1 more times within 10000 ms", event(2).getMessage());
+        assertEquals("c", event(3).getMessage());
+        small.info("a");
+        assertEquals(5, listAppender.list.size());
+        assertEquals("a", event(4).getMessage());
+    }
+
+    @Test
+    public void closedWindowsAreSummarizedByOtherMessages() {
+        logger.warn("burst");
+        logger.warn("burst");
+        logger.warn("burst");
+        clock.addAndGet(WINDOW);
+        logger.info("unrelated");
+
+        assertEquals(3, listAppender.list.size());
+        assertEquals("\"burst\" repeated 2 more times within 10000 ms", event(1).getMessage());
+        assertEquals(org.apache.log4j.Level.WARN, event(1).getLevel());
+        assertEquals("unrelated", event(2).getMessage());
+
+        // already summarized, hence neither summarized again nor suppressed
+        logger.flush();
+        logger.warn("burst");
+        assertEquals(4, listAppender.list.size());
+        assertEquals("burst", event(3).getMessage());
+    }
+
+    @Test
+    public void closedEntryRefusesFurtherRepetitions() {
+        DeduplicatingLogger.Entry entry = new DeduplicatingLogger.Entry(null, 0);
+        assertTrue(entry.suppress());
+        assertTrue(entry.suppress());
+        assertEquals(2, entry.drain(DeduplicatingLogger.Entry.CLOSED));
+        assertFalse(entry.suppress());
+        assertEquals(DeduplicatingLogger.Entry.CLOSED, entry.drain(0));
+    }
+}
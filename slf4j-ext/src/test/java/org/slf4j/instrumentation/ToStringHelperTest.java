@@ -26,7 +26,10 @@ package org.slf4j.instrumentation;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.UUID;
+
 import org.junit.Test;
+import org.slf4j.helpers.ArgumentRenderers;
 
 public class ToStringHelperTest {
 
@@ -65,4 +68,17 @@ public class ToStringHelperTest {
         assertEquals("", "[true, false, true]", ToStringHelper.render(new boolean[] { true, false, true }));
     }
 
+    @Test
+    public void registeredRendererIsUsed() {
+        UUID uuid = new UUID(0, 1);
+        ArgumentRenderers.register(UUID.class, (sbuf, u) -> sbuf.append("uuid:").append(u.getLeastSignificantBits()));
+        try {
+            assertEquals("uuid:1", ToStringHelper.render(uuid));
+            assertEquals("[uuid:1]", ToStringHelper.render(new Object[] { uuid }));
+        } finally {
+            ArgumentRenderers.unregister(UUID.class);
+        }
+        assertEquals(uuid.toString(), ToStringHelper.render(uuid));
+    }
+
 }
@@ -24,6 +24,7 @@
  */
 package org.slf4j.jul;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -32,11 +33,11 @@ import org.slf4j.Marker;
 import org.slf4j.event.EventConstants;
 import org.slf4j.event.LoggingEvent;
 import org.slf4j.helpers.AbstractLogger;
-import org.slf4j.helpers.FormattingTuple;
 import org.slf4j.helpers.LegacyAbstractLogger;
 import org.slf4j.helpers.MessageFormatter;
 import org.slf4j.helpers.NormalizedParameters;
 import org.slf4j.helpers.SubstituteLogger;
+import org.slf4j.helpers.Util;
 import org.slf4j.spi.DefaultLoggingEventBuilder;
 import org.slf4j.spi.LocationAwareLogger;
 
@@ -45,6 +46,15 @@ import org.slf4j.spi.LocationAwareLogger;
  * conformity with the {@link Logger} interface. Note that the logging levels
  * mentioned in this class refer to those defined in the java.util.logging
  * package.
+ *
+ * <p>When the {@link #LEVEL_CACHING_KEY} system property is set to true, each
+ * adapter caches the effective level of its java.util.logging logger, so that
+ * checking a level costs a single comparison. The cached levels are discarded
+ * whenever the <code>LogManager</code> configuration is read or updated. Levels
+ * set directly through <code>java.util.logging.Logger.setLevel</code> are not
+ * notified however: applications doing so must invoke
+ * {@link #invalidateLevelCaches()} afterwards. Level caching is therefore
+ * disabled by default.</p>
  * 
  * @author Ceki G&uuml;lc&uuml;
  * @author Peter Royal
@@ -53,9 +63,25 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
 
     private static final long serialVersionUID = -8053026990503422791L;
 
+    /**
+     * System property which, when set to true, enables the caching of
+     * effective levels. See the class documentation for the restrictions
+     * caching implies.
+     *
+     * @since 2.0.17
+     */
+    public static final String LEVEL_CACHING_KEY = "slf4j.jul.levelCaching";
+
+    // not final so that tests can toggle caching
+    static boolean LEVEL_CACHING = Util.safeGetBooleanSystemProperty(LEVEL_CACHING_KEY) && LevelCaching.isAvailable();
+
+    private static final int OFF_VALUE = Level.OFF.intValue();
+
     transient final java.util.logging.Logger logger;
 
-    static int NOT_FOUND = -1;
+    // The generation of LevelCaching in the upper 32 bits, the effective level value in the
+    // lower 32 bits. Packed so that both are read and written atomically.
+    private transient volatile long cachedLevel;
 
     // WARN: JDK14LoggerAdapter constructor should have only package access so
     // that only JDK14LoggerFactory be able to create one.
@@ -70,7 +96,7 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
      * @return True if this Logger is enabled for level FINEST, false otherwise.
      */
     public boolean isTraceEnabled() {
-        return logger.isLoggable(Level.FINEST);
+        return isLoggable(Level.FINEST);
     }
 
     /**
@@ -79,7 +105,7 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
      * @return True if this Logger is enabled for level FINE, false otherwise.
      */
     public boolean isDebugEnabled() {
-        return logger.isLoggable(Level.FINE);
+        return isLoggable(Level.FINE);
     }
 
     /**
@@ -88,7 +114,7 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
      * @return True if this Logger is enabled for the INFO level, false otherwise.
      */
     public boolean isInfoEnabled() {
-        return logger.isLoggable(Level.INFO);
+        return isLoggable(Level.INFO);
     }
 
     /**
@@ -98,7 +124,7 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
      *         otherwise.
      */
     public boolean isWarnEnabled() {
-        return logger.isLoggable(Level.WARNING);
+        return isLoggable(Level.WARNING);
     }
 
     /**
@@ -107,7 +133,44 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
      * @return True if this Logger is enabled for level SEVERE, false otherwise.
      */
     public boolean isErrorEnabled() {
-        return logger.isLoggable(Level.SEVERE);
+        return isLoggable(Level.SEVERE);
+    }
+
+    /**
+     * Discards the effective levels cached by all adapters. Applications
+     * which enable {@link #LEVEL_CACHING_KEY level caching} must invoke this
+     * method after changing levels with
+     * <code>java.util.logging.Logger.setLevel</code>.
+     *
+     * @since 2.0.17
+     */
+    public static void invalidateLevelCaches() {
+        LevelCaching.invalidate();
+    }
+
+    private boolean isLoggable(Level julLevel) {
+        if (!LEVEL_CACHING) {
+            return logger.isLoggable(julLevel);
+        }
+        final int generation = LevelCaching.generation();
+        long cached = cachedLevel;
+        if ((int) (cached >>> 32) != generation) {
+            cached = ((long) generation << 32) | (effectiveLevelValue() & 0xFFFFFFFFL);
+            cachedLevel = cached;
+        }
+        final int levelValue = (int) cached;
+        // same test as java.util.logging.Logger.isLoggable
+        return julLevel.intValue() >= levelValue && levelValue != OFF_VALUE;
+    }
+
+    private int effectiveLevelValue() {
+        for (java.util.logging.Logger l = logger; l != null; l = l.getParent()) {
+            Level level = l.getLevel();
+            if (level != null) {
+                return level.intValue();
+            }
+        }
+        return Level.INFO.intValue();
     }
 
     // /**
@@ -146,7 +209,7 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
         // millis and thread are filled by the constructor
         Level julLevel = slf4jLevelToJULLevel(level);
         String formattedMessage = MessageFormatter.basicArrayFormat(msg, args);
-        LogRecord record = new LogRecord(julLevel, formattedMessage);
+        LogRecord record = LogRecords.newLogRecordWithCallerData(fqcn, julLevel, formattedMessage);
 
         // https://jira.qos.ch/browse/SLF4J-13
         record.setLoggerName(getName());
@@ -154,7 +217,6 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
         // Note: parameters in record are not set because SLF4J only
         // supports a single formatting style
         // See also https://jira.qos.ch/browse/SLF4J-10
-        fillCallerData(fqcn, record);
         logger.log(record);
     }
 
@@ -169,48 +231,12 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
         org.slf4j.event.Level slf4jLevel = org.slf4j.event.Level.intToLevel(slf4jLevelInt);
         Level julLevel = slf4jLevelIntToJULLevel(slf4jLevelInt);
 
-        if (logger.isLoggable(julLevel)) {
+        if (isLoggable(julLevel)) {
             NormalizedParameters np = NormalizedParameters.normalize(message, arguments, throwable);
             innerNormalizedLoggingCallHandler(callerFQCN, slf4jLevel, marker, np.getMessage(), np.getArguments(), np.getThrowable());
         }
     }
 
-    /**
-     * Fill in caller data if possible.
-     * 
-     * @param record The record to update
-     */
-    final private void fillCallerData(String callerFQCN, LogRecord record) {
-        StackTraceElement[] steArray = new Throwable().getStackTrace();
-
-        int furthestIndex = findFurthestIndex(callerFQCN, steArray);
-
-        if (furthestIndex != NOT_FOUND) {
-            int found = furthestIndex+1;
-            StackTraceElement ste = steArray[found];
-            // setting the class name has the side effect of setting
-            // the needToInferCaller variable to false.
-            record.setSourceClassName(ste.getClassName());
-            record.setSourceMethodName(ste.getMethodName());
-        }
-    }
-
-    // find the furthest index which matches any of the barrier classes
-    // We assume that the actual caller is at most MAX_SEARCH_DEPTH calls away
-    private int findFurthestIndex(String callerFQCN, StackTraceElement[] steArray) {
-
-        final int maxIndex = Math.min(MAX_SEARCH_DEPTH, steArray.length);
-        int furthestIndex = NOT_FOUND;
-
-        for (int i = 0; i < maxIndex; i++) {
-            final String className = steArray[i].getClassName();
-            if (barrierMatch(callerFQCN, className)) {
-                furthestIndex = i;
-            }
-        }
-        return furthestIndex;
-    }
-
    static final int MAX_SEARCH_DEPTH = 12;
    static String SELF = JDK14LoggerAdapter.class.getName();
 
@@ -221,17 +247,6 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
 
     static String[] BARRIER_CLASSES = new String[] { SUPER_OF_SUPER, SUPER, SELF, SUBSTITUE, FLUENT };
 
-    private boolean barrierMatch(String callerFQCN, String candidateClassName) {
-        if (candidateClassName.equals(callerFQCN))
-            return true;
-        for (String barrierClassName : BARRIER_CLASSES) {
-            if (barrierClassName.equals(candidateClassName)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private static Level slf4jLevelIntToJULLevel(int levelInt) {
         org.slf4j.event.Level slf4jLevel = org.slf4j.event.Level.intToLevel(levelInt);
         return slf4jLevelToJULLevel(slf4jLevel);
@@ -268,27 +283,25 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
         // assumes that the invocation is made from a substitute logger
         // this assumption might change in the future with the advent of a fluent API
         Level julLevel = slf4jLevelToJULLevel(event.getLevel());
-        if (logger.isLoggable(julLevel)) {
+        if (isLoggable(julLevel)) {
             LogRecord record = eventToRecord(event, julLevel);
             logger.log(record);
         }
     }
 
     private LogRecord eventToRecord(LoggingEvent event, Level julLevel) {
-        String format = event.getMessage();
-        Object[] arguments = event.getArgumentArray();
-        FormattingTuple ft = MessageFormatter.arrayFormat(format, arguments);
-        if (ft.getThrowable() != null && event.getThrowable() != null) {
-            throw new IllegalArgumentException("both last element in argument array and last argument are of type Throwable");
-        }
-
         Throwable t = event.getThrowable();
-        if (ft.getThrowable() != null) {
-            t = ft.getThrowable();
-            throw new IllegalStateException("fix above code");
+        String message;
+        if (t == null && hasTrailingThrowable(event.getArguments())) {
+            // as with the classic printing methods, a trailing throwable argument is the cause
+            NormalizedParameters np = NormalizedParameters.normalize(event);
+            message = MessageFormatter.basicArrayFormat(np);
+            t = np.getThrowable();
+        } else {
+            message = event.getFormattedMessage();
         }
 
-        LogRecord record = new LogRecord(julLevel, ft.getMessage());
+        LogRecord record = new LogRecord(julLevel, message);
         record.setLoggerName(event.getLoggerName());
         record.setMillis(event.getTimeStamp());
         record.setSourceClassName(EventConstants.NA_SUBST);
@@ -298,4 +311,8 @@ public final class JDK14LoggerAdapter extends LegacyAbstractLogger implements Lo
         return record;
     }
 
+    private static boolean hasTrailingThrowable(List<Object> arguments) {
+        return arguments != null && !arguments.isEmpty() && arguments.get(arguments.size() - 1) instanceof Throwable;
+    }
+
 }
@@ -0,0 +1,70 @@
+package org.slf4j.jul;
+
+import java.beans.PropertyChangeListener;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogManager;
+
+/**
+ * Keeps the generation of the java.util.logging configuration, see
+ * {@link JDK14LoggerAdapter#LEVEL_CACHING_KEY}.
+ *
+ * <p>This implementation registers its listener with the
+ * <code>LogManager</code> by reflection, as the registration method differs
+ * between Java 8 and later versions. On Java 9 and later, it is replaced by an
+ * implementation invoking <code>addConfigurationListener</code> directly.</p>
+ *
+ * @since 2.0.17
+ */
+final class LevelCaching {
+
+    // starts at 1 so that a cached level with generation 0 is always stale
+    private static final AtomicInteger GENERATION = new AtomicInteger(1);
+
+    private static final boolean AVAILABLE = register();
+
+    private LevelCaching() {
+    }
+
+    private static boolean register() {
+        try {
+            // Java 9 and later, when this class is loaded from outside of a multi-release jar
+            Method method = LogManager.class.getMethod("addConfigurationListener", Runnable.class);
+            method.invoke(LogManager.getLogManager(), (Runnable) LevelCaching::invalidate);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return PropertyChangeRegistration.register();
+        } catch (ReflectiveOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    // separate class so that java.beans is only linked on Java 8
+    private static final class PropertyChangeRegistration {
+        static boolean register() {
+            try {
+                Method method = LogManager.class.getMethod("addPropertyChangeListener", PropertyChangeListener.class);
+                method.invoke(LogManager.getLogManager(), (PropertyChangeListener) event -> invalidate());
+                return true;
+            } catch (ReflectiveOperationException | SecurityException | LinkageError e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns true if changes to the configuration are notified, in which
+     * case levels may be cached.
+     */
+    static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    static int generation() {
+        return GENERATION.get();
+    }
+
+    static void invalidate() {
+        GENERATION.incrementAndGet();
+    }
+}
@@ -0,0 +1,80 @@
+package org.slf4j.jul;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Creates the {@link LogRecord} instances logged by {@link JDK14LoggerAdapter}.
+ *
+ * <p>This implementation fills in the caller data eagerly from the stack trace
+ * of a new Throwable. On Java 9 and later, it is replaced by an implementation
+ * relying on <code>StackWalker</code>, which resolves the caller data lazily.</p>
+ *
+ * @since 2.0.17
+ */
+final class LogRecords {
+
+    static final int NOT_FOUND = -1;
+
+    private LogRecords() {
+    }
+
+    /**
+     * Returns a new record whose source class and method are those of the
+     * caller of the logging method, as determined by callerFQCN and
+     * {@link JDK14LoggerAdapter#BARRIER_CLASSES}.
+     */
+    static LogRecord newLogRecordWithCallerData(String callerFQCN, Level level, String message) {
+        LogRecord record = new LogRecord(level, message);
+        fillCallerData(callerFQCN, record);
+        return record;
+    }
+
+    /**
+     * Fill in caller data if possible.
+     *
+     * @param record The record to update
+     */
+    private static void fillCallerData(String callerFQCN, LogRecord record) {
+        StackTraceElement[] steArray = new Throwable().getStackTrace();
+
+        int furthestIndex = findFurthestIndex(callerFQCN, steArray);
+
+        if (furthestIndex != NOT_FOUND) {
+            int found = furthestIndex+1;
+            StackTraceElement ste = steArray[found];
+            // setting the class name has the side effect of setting
+            // the needToInferCaller variable to false.
+            record.setSourceClassName(ste.getClassName());
+            record.setSourceMethodName(ste.getMethodName());
+        }
+    }
+
+    // find the furthest index which matches any of the barrier classes
+    // We assume that the actual caller is at most MAX_SEARCH_DEPTH calls away
+    // from the logger, not counting the frame of newLogRecordWithCallerData
+    private static int findFurthestIndex(String callerFQCN, StackTraceElement[] steArray) {
+
+        final int maxIndex = Math.min(JDK14LoggerAdapter.MAX_SEARCH_DEPTH + 1, steArray.length);
+        int furthestIndex = NOT_FOUND;
+
+        for (int i = 0; i < maxIndex; i++) {
+            final String className = steArray[i].getClassName();
+            if (barrierMatch(callerFQCN, className)) {
+                furthestIndex = i;
+            }
+        }
+        return furthestIndex;
+    }
+
+    private static boolean barrierMatch(String callerFQCN, String candidateClassName) {
+        if (candidateClassName.equals(callerFQCN))
+            return true;
+        for (String barrierClassName : JDK14LoggerAdapter.BARRIER_CLASSES) {
+            if (barrierClassName.equals(candidateClassName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
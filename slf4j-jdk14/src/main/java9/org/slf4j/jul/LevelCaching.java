@@ -0,0 +1,46 @@
+package org.slf4j.jul;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogManager;
+
+/**
+ * Keeps the generation of the java.util.logging configuration, see
+ * {@link JDK14LoggerAdapter#LEVEL_CACHING_KEY}.
+ *
+ * @since 2.0.17
+ */
+final class LevelCaching {
+
+    // starts at 1 so that a cached level with generation 0 is always stale
+    private static final AtomicInteger GENERATION = new AtomicInteger(1);
+
+    private static final boolean AVAILABLE = register();
+
+    private LevelCaching() {
+    }
+
+    private static boolean register() {
+        try {
+            LogManager.getLogManager().addConfigurationListener(LevelCaching::invalidate);
+            return true;
+        } catch (SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if changes to the configuration are notified, in which
+     * case levels may be cached.
+     */
+    static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    static int generation() {
+        return GENERATION.get();
+    }
+
+    static void invalidate() {
+        GENERATION.incrementAndGet();
+    }
+}
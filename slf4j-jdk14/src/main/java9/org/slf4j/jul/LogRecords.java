@@ -0,0 +1,146 @@
+package org.slf4j.jul;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Creates the {@link LogRecord} instances logged by {@link JDK14LoggerAdapter}.
+ *
+ * <p>This implementation locates the caller with a {@link StackWalker}
+ * visiting no more frames than {@link JDK14LoggerAdapter#MAX_SEARCH_DEPTH}
+ * allows, and recognizes the barrier classes by their class references, with
+ * the outcome cached per class. The name of the
+ * calling method is only resolved if a handler or formatter asks the record
+ * for it.</p>
+ *
+ * @since 2.0.17
+ */
+final class LogRecords {
+
+    // null if the walker cannot be obtained, under a security manager for example
+    private static final StackWalker WALKER = safeGetWalker();
+
+    private static final List<String> BARRIER_CLASS_NAMES = Arrays.asList(JDK14LoggerAdapter.BARRIER_CLASSES);
+
+    // whether a class is one of the barrier classes, looked up once per class
+    private static final ClassValue<Boolean> IS_BARRIER = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return BARRIER_CLASS_NAMES.contains(type.getName());
+        }
+    };
+
+    private LogRecords() {
+    }
+
+    private static StackWalker safeGetWalker() {
+        try {
+            return StackWalker.getInstance(EnumSet.of(StackWalker.Option.RETAIN_CLASS_REFERENCE), JDK14LoggerAdapter.MAX_SEARCH_DEPTH + 1);
+        } catch (SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a new record whose source class and method are those of the
+     * caller of the logging method, as determined by callerFQCN and
+     * {@link JDK14LoggerAdapter#BARRIER_CLASSES}.
+     */
+    static LogRecord newLogRecordWithCallerData(String callerFQCN, Level level, String message) {
+        StackWalker.StackFrame callerFrame = WALKER == null ? null : WALKER.walk(frames -> findCaller(callerFQCN, frames.iterator()));
+        if (callerFrame == null) {
+            // leave it to java.util.logging to infer the caller
+            return new LogRecord(level, message);
+        }
+        return new CallerFrameLogRecord(level, message, callerFrame);
+    }
+
+    // Returns the frame following the furthest barrier frame. We assume that the actual
+    // caller is at most MAX_SEARCH_DEPTH calls away.
+    private static StackWalker.StackFrame findCaller(String callerFQCN, Iterator<StackWalker.StackFrame> frames) {
+        StackWalker.StackFrame caller = null;
+        boolean afterBarrier = false;
+        for (int i = 0; i <= JDK14LoggerAdapter.MAX_SEARCH_DEPTH && frames.hasNext(); i++) {
+            StackWalker.StackFrame frame = frames.next();
+            if (i < JDK14LoggerAdapter.MAX_SEARCH_DEPTH && isBarrier(callerFQCN, frame.getDeclaringClass())) {
+                caller = null;
+                afterBarrier = true;
+            } else if (afterBarrier) {
+                caller = frame;
+                afterBarrier = false;
+            }
+        }
+        return caller;
+    }
+
+    private static boolean isBarrier(String callerFQCN, Class<?> candidate) {
+        return IS_BARRIER.get(candidate) || candidate.getName().equals(callerFQCN);
+    }
+
+    /**
+     * A record resolving its source class and method from a stack frame when
+     * first asked for either.
+     *
+     * <p>As with caller inference by java.util.logging itself, a handler
+     * passing the record to another thread should invoke
+     * {@link #getSourceClassName()} or {@link #getSourceMethodName()}
+     * beforehand if it needs these values. Here the frame is retained in the
+     * meantime, so the values remain correct.</p>
+     */
+    private static final class CallerFrameLogRecord extends LogRecord {
+
+        private static final long serialVersionUID = 1L;
+
+        // null once resolved
+        private transient volatile StackWalker.StackFrame callerFrame;
+
+        CallerFrameLogRecord(Level level, String message, StackWalker.StackFrame callerFrame) {
+            super(level, message);
+            this.callerFrame = callerFrame;
+        }
+
+        private void resolveCallerData() {
+            StackWalker.StackFrame frame = callerFrame;
+            if (frame != null) {
+                // setting the class name has the side effect of setting
+                // the needToInferCaller variable to false.
+                super.setSourceClassName(frame.getClassName());
+                super.setSourceMethodName(frame.getMethodName());
+                callerFrame = null;
+            }
+        }
+
+        @Override
+        public String getSourceClassName() {
+            resolveCallerData();
+            return super.getSourceClassName();
+        }
+
+        @Override
+        public void setSourceClassName(String sourceClassName) {
+            resolveCallerData();
+            super.setSourceClassName(sourceClassName);
+        }
+
+        @Override
+        public String getSourceMethodName() {
+            resolveCallerData();
+            return super.getSourceMethodName();
+        }
+
+        @Override
+        public void setSourceMethodName(String sourceMethodName) {
+            resolveCallerData();
+            super.setSourceMethodName(sourceMethodName);
+        }
+
+        private Object writeReplace() {
+            resolveCallerData();
+            return this;
+        }
+    }
+}
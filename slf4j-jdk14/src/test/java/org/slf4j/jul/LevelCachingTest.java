@@ -0,0 +1,65 @@
+package org.slf4j.jul;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LevelCachingTest {
+
+    java.util.logging.Logger parent = java.util.logging.Logger.getLogger("levelCaching");
+    java.util.logging.Logger child = java.util.logging.Logger.getLogger("levelCaching.child");
+    JDK14LoggerAdapter adapter = new JDK14LoggerAdapter(child);
+
+    @Before
+    public void setUp() {
+        assertTrue(LevelCaching.isAvailable());
+        JDK14LoggerAdapter.LEVEL_CACHING = true;
+        parent.setLevel(Level.INFO);
+    }
+
+    @After
+    public void tearDown() {
+        JDK14LoggerAdapter.LEVEL_CACHING = false;
+        parent.setLevel(null);
+    }
+
+    @Test
+    public void cachedLevelIsInherited() {
+        assertFalse(adapter.isDebugEnabled());
+        assertTrue(adapter.isInfoEnabled());
+
+        parent.setLevel(Level.OFF);
+        JDK14LoggerAdapter.invalidateLevelCaches();
+        assertFalse(adapter.isErrorEnabled());
+    }
+
+    @Test
+    public void setLevelRequiresInvalidation() {
+        assertFalse(adapter.isDebugEnabled());
+        parent.setLevel(Level.FINE);
+        // documented limitation, java.util.logging does not notify level changes
+        assertFalse(adapter.isDebugEnabled());
+        JDK14LoggerAdapter.invalidateLevelCaches();
+        assertTrue(adapter.isDebugEnabled());
+    }
+
+    @Test
+    public void configurationChangeInvalidates() throws Exception {
+        assertFalse(adapter.isDebugEnabled());
+        String config = "handlers=java.util.logging.ConsoleHandler\nlevelCaching.level=FINE\n";
+        LogManager.getLogManager().readConfiguration(new ByteArrayInputStream(config.getBytes(StandardCharsets.ISO_8859_1)));
+        try {
+            assertTrue(adapter.isDebugEnabled());
+        } finally {
+            LogManager.getLogManager().readConfiguration();
+        }
+    }
+}
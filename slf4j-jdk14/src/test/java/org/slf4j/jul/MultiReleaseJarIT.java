@@ -0,0 +1,70 @@
+package org.slf4j.jul;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs against the packaged multi-release jar, see the
+ * <code>multi-release-jar-test</code> execution in the pom, so that the
+ * classes compiled for Java 9 and later are the ones exercised.
+ */
+public class MultiReleaseJarIT {
+
+    java.util.logging.Logger root = java.util.logging.Logger.getLogger("");
+    Level oldLevel;
+    ListHandler listHandler = new ListHandler();
+
+    @Before
+    public void setUp() {
+        oldLevel = root.getLevel();
+        root.setLevel(Level.FINE);
+        root.addHandler(listHandler);
+    }
+
+    @After
+    public void tearDown() {
+        root.setLevel(oldLevel);
+        root.removeHandler(listHandler);
+    }
+
+    @Test
+    public void versionedClassesAreLoaded() throws NoSuchFieldException {
+        // only the StackWalker based implementation has this field
+        LogRecords.class.getDeclaredField("WALKER");
+        // only the Java 8 implementation needs a nested registration class
+        assertEquals(0, LevelCaching.class.getDeclaredClasses().length);
+        assertTrue(LevelCaching.isAvailable());
+    }
+
+    @Test
+    public void callerDataIsResolvedLazily() {
+        Logger logger = LoggerFactory.getLogger("multiRelease");
+        logger.info("hello");
+
+        assertEquals(1, listHandler.recordList.size());
+        LogRecord record = listHandler.recordList.get(0);
+        assertEquals("CallerFrameLogRecord", record.getClass().getSimpleName());
+        assertEquals(MultiReleaseJarIT.class.getName(), record.getSourceClassName());
+        assertEquals("callerDataIsResolvedLazily", record.getSourceMethodName());
+    }
+
+    @Test
+    public void callerDataWithFluentApi() {
+        Logger logger = LoggerFactory.getLogger("multiRelease");
+        logger.atDebug().log("hello");
+
+        assertEquals(1, listHandler.recordList.size());
+        LogRecord record = listHandler.recordList.get(0);
+        assertEquals(MultiReleaseJarIT.class.getName(), record.getSourceClassName());
+        assertEquals("callerDataWithFluentApi", record.getSourceMethodName());
+    }
+}
@@ -153,7 +153,7 @@ public final class Reload4jLoggerAdapter extends LegacyAbstractLogger implements
 
     private org.apache.log4j.spi.LoggingEvent event2Log4jEvent(LoggingEvent event, Level log4jLevel) {
 
-        String formattedMessage = MessageFormatter.basicArrayFormat(event.getMessage(), event.getArgumentArray());
+        String formattedMessage = event.getFormattedMessage();
 
         LocationInfo locationInfo = null;
         String fqcn = null;
@@ -25,7 +25,6 @@
 package org.slf4j.simple;
 
 import java.io.PrintStream;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -34,8 +33,10 @@ import org.slf4j.Marker;
 import org.slf4j.event.Level;
 import org.slf4j.event.LoggingEvent;
 import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MarkerSet;
 import org.slf4j.helpers.MessageFormatter;
 import org.slf4j.helpers.NormalizedParameters;
+import org.slf4j.helpers.ThreadLocalBuffer;
 import org.slf4j.spi.LocationAwareLogger;
 
 /**
@@ -367,20 +368,103 @@ public class SimpleLogger extends LegacyAbstractLogger {
     @Override
     protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern, Object[] arguments, Throwable throwable) {
 
-        List<Marker> markers = null;
-
-        if (marker != null) {
-            markers = new ArrayList<>();
-            markers.add(marker);
-        }
+        // sets of a single marker obtained from a marker factory are interned, no allocation then
+        List<Marker> markers = marker == null ? null : MarkerSet.of(marker);
 
         innerHandleNormalizedLoggingCall(level, markers, messagePattern, arguments, throwable);
     }
 
     private void innerHandleNormalizedLoggingCall(Level level, List<Marker> markers, String messagePattern, Object[] arguments, Throwable t) {
 
-        StringBuilder buf = new StringBuilder(32);
+        StringBuilder buf = ThreadLocalBuffer.acquire();
+        try {
+            appendPreamble(buf, level, markers);
+
+            // Append the message
+            MessageFormatter.formatTo(buf, messagePattern, arguments);
+
+            write(buf, t);
+        } finally {
+            ThreadLocalBuffer.release(buf);
+        }
+    }
+
+    // The primitive forms append their argument to the message without boxing it.
+
+    @Override
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, int arg) {
+        StringBuilder buf = ThreadLocalBuffer.acquire();
+        try {
+            appendPreamble(buf, level, null);
+            MessageFormatter.formatTo(buf, messagePattern, arg);
+            write(buf, null);
+        } finally {
+            ThreadLocalBuffer.release(buf);
+        }
+    }
+
+    @Override
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, long arg) {
+        StringBuilder buf = ThreadLocalBuffer.acquire();
+        try {
+            appendPreamble(buf, level, null);
+            MessageFormatter.formatTo(buf, messagePattern, arg);
+            write(buf, null);
+        } finally {
+            ThreadLocalBuffer.release(buf);
+        }
+    }
+
+    @Override
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, float arg) {
+        StringBuilder buf = ThreadLocalBuffer.acquire();
+        try {
+            appendPreamble(buf, level, null);
+            MessageFormatter.formatTo(buf, messagePattern, arg);
+            write(buf, null);
+        } finally {
+            ThreadLocalBuffer.release(buf);
+        }
+    }
+
+    @Override
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, double arg) {
+        StringBuilder buf = ThreadLocalBuffer.acquire();
+        try {
+            appendPreamble(buf, level, null);
+            MessageFormatter.formatTo(buf, messagePattern, arg);
+            write(buf, null);
+        } finally {
+            ThreadLocalBuffer.release(buf);
+        }
+    }
+
+    @Override
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, boolean arg) {
+        StringBuilder buf = ThreadLocalBuffer.acquire();
+        try {
+            appendPreamble(buf, level, null);
+            MessageFormatter.formatTo(buf, messagePattern, arg);
+            write(buf, null);
+        } finally {
+            ThreadLocalBuffer.release(buf);
+        }
+    }
 
+    @Override
+    protected void handlePrimitiveArgumentCall(Level level, String messagePattern, char arg) {
+        StringBuilder buf = ThreadLocalBuffer.acquire();
+        try {
+            appendPreamble(buf, level, null);
+            MessageFormatter.formatTo(buf, messagePattern, arg);
+            write(buf, null);
+        } finally {
+            ThreadLocalBuffer.release(buf);
+        }
+    }
+
+    // appends what precedes the message: date-time, thread, level, logger name and markers
+    private void appendPreamble(StringBuilder buf, Level level, List<Marker> markers) {
         // Append date-time if so configured
         if (CONFIG_PARAMS.showDateTime) {
             if (CONFIG_PARAMS.dateFormatter != null) {
@@ -398,7 +482,7 @@ public class SimpleLogger extends LegacyAbstractLogger {
             buf.append(Thread.currentThread().getName());
             buf.append("] ");
         }
-        
+    
         if (CONFIG_PARAMS.showThreadId) {
             buf.append(TID_PREFIX);
             buf.append(Thread.currentThread().getId());
@@ -430,13 +514,6 @@ public class SimpleLogger extends LegacyAbstractLogger {
                 buf.append(marker.getName()).append(SP);
             }
         }
-
-        String formattedMessage = MessageFormatter.basicArrayFormat(messagePattern, arguments);
-
-        // Append the message
-        buf.append(formattedMessage);
-
-        write(buf, t);
     }
 
     protected String renderLevel(int levelInt) {
@@ -462,9 +539,15 @@ public class SimpleLogger extends LegacyAbstractLogger {
             return;
         }
 
-        NormalizedParameters np = NormalizedParameters.normalize(event);
-
-        innerHandleNormalizedLoggingCall(event.getLevel(), event.getMarkers(), np.getMessage(), np.getArguments(), event.getThrowable());
+        Throwable t = event.getThrowable();
+        if (t == null && NormalizedParameters.getThrowableCandidate(event.getArgumentArray()) != null) {
+            // as with the classic printing methods, a trailing throwable argument is the cause
+            NormalizedParameters np = NormalizedParameters.normalize(event);
+            innerHandleNormalizedLoggingCall(event.getLevel(), event.getMarkers(), np.getMessage(), np.getArguments(), np.getThrowable());
+        } else {
+            // the event formats its message at most once, however many consumers it reaches
+            innerHandleNormalizedLoggingCall(event.getLevel(), event.getMarkers(), event.getFormattedMessage(), null, t);
+        }
     }
 
     @Override
@@ -25,6 +25,7 @@
 package org.slf4j.simple;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
@@ -111,6 +112,19 @@ public class DetectLoggerNameMismatchTest {
         assertMismatchDetected(false);
     }
 
+    /*
+     * Checks that the cached logger of a class does not short-circuit detection.
+     */
+    @Test
+    public void testTriggerWithCachedLogger() {
+        setTrialEnabled(false);
+        Logger first = LoggerFactory.getLogger(Integer.class);
+        setTrialEnabled(true);
+        Logger second = LoggerFactory.getLogger(Integer.class);
+        assertSame(first, second);
+        assertMismatchDetected(true);
+    }
+
     private void assertMismatchDetected(boolean mismatchDetected) {
         assertEquals(mismatchDetected, String.valueOf(byteArrayOutputStream).contains(MISMATCH_STRING));
     }
@@ -36,6 +36,8 @@ import java.util.regex.Pattern;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.slf4j.event.DefaultLoggingEvent;
+import org.slf4j.event.Level;
 
 public class SimpleLoggerTest {
 
@@ -110,6 +112,49 @@ public class SimpleLoggerTest {
         assertTrue(bout.toString().contains("INFO " + this.getClass().getName() + " - hello"));
     }
 
+    @Test
+    public void primitiveArgumentsAreRenderedLikeBoxedOnes() {
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        System.setErr(replacement);
+        simpleLogger.info("char={}", 'x');
+        simpleLogger.info("float={}", 1.1f);
+        simpleLogger.info("long={}", 42L);
+        simpleLogger.info("boolean={}", true);
+        simpleLogger.debug("disabled={}", 1);
+        replacement.flush();
+
+        String output = bout.toString();
+        String eol = System.lineSeparator();
+        assertTrue(output.contains(" - char=x" + eol));
+        assertTrue(output.contains(" - float=1.1" + eol));
+        assertTrue(output.contains(" - long=42" + eol));
+        assertTrue(output.contains(" - boolean=true" + eol));
+        assertFalse(output.contains("disabled"));
+    }
+
+    @Test
+    public void trailingThrowableOfEventIsPrinted() {
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger(this.getClass().getName());
+
+        // as replayed by a substitute logger, or built by a fluent call
+        DefaultLoggingEvent event = new DefaultLoggingEvent(Level.ERROR, simpleLogger);
+        event.setMessage("x {}");
+        event.addArgument(42);
+        event.addArgument(new IllegalStateException("boom"));
+
+        System.setErr(replacement);
+        simpleLogger.log(event);
+        replacement.flush();
+
+        String output = bout.toString();
+        String eol = System.lineSeparator();
+        assertTrue(output.contains(" - x 42" + eol + "java.lang.IllegalStateException: boom" + eol));
+        assertTrue(output.contains("\tat " + this.getClass().getName() + ".trailingThrowableOfEventIsPrinted"));
+    }
+
     @Test
     public void checkUseOfCachedOutputStream() {
         System.setErr(replacement);